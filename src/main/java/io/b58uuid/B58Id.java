@@ -0,0 +1,232 @@
+package io.b58uuid;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Immutable UUID value held as two longs, for use as a compact map key or
+ * sort key in place of its Base58 {@code String}.
+ *
+ * <p>A {@code B58Id} takes about 40 bytes of heap against 60 or more for a
+ * 22-character string, and its hash code is computed once from the bits with
+ * {@link B58UUID#hash64(long, long)} instead of over 22 characters. Ordering is
+ * unsigned 128-bit order, which is also the order of the Base58 strings (see
+ * {@link B58UUID#compareEncoded}). The Base58 form is encoded on first use of
+ * {@link #toString()} or the {@link CharSequence} methods and then kept.
+ * Serialization goes through a proxy holding only the two longs.</p>
+ *
+ * <p>Like {@link StringBuilder}, this class does not define equality with other
+ * {@code CharSequence} types: a {@code B58Id} never equals a {@code String}.</p>
+ */
+public final class B58Id implements Comparable<B58Id>, CharSequence, Serializable {
+    
+    private static final long serialVersionUID = 1L;
+    
+    private final long msb;
+    private final long lsb;
+    
+    // Final so that ids published through a race still show the right hash
+    private final int hash;
+    
+    // Base58 form, encoded on first use; racy but idempotent, like String.hash
+    private transient String encoded;
+    
+    private B58Id(long msb, long lsb, String encoded) {
+        this.msb = msb;
+        this.lsb = lsb;
+        this.hash = hash(msb, lsb);
+        this.encoded = encoded;
+    }
+    
+    /**
+     * Returns the id with the given halves.
+     *
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @return The id
+     */
+    public static B58Id of(long msb, long lsb) {
+        return new B58Id(msb, lsb, null);
+    }
+    
+    /**
+     * Returns the id of a {@link UUID}.
+     *
+     * @param uuid The UUID
+     * @return The id
+     * @throws B58UUIDException if the UUID is null
+     */
+    public static B58Id of(UUID uuid) throws B58UUIDException {
+        if (uuid == null) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_UUID, "UUID cannot be null");
+        }
+        return new B58Id(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null);
+    }
+    
+    /**
+     * Returns the id of a 16-byte big-endian UUID.
+     *
+     * @param data A 16-byte array representing the UUID
+     * @return The id
+     * @throws B58UUIDException if the input data is not exactly 16 bytes
+     */
+    public static B58Id of(byte[] data) throws B58UUIDException {
+        if (data == null) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_UUID, "Input data cannot be null");
+        }
+        if (data.length != 16) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_LENGTH,
+                "Input must be exactly 16 bytes, got %d", data.length);
+        }
+        return new B58Id(Platform.readLong(data, 0), Platform.readLong(data, 8), null);
+    }
+    
+    /**
+     * Parses a Base58-encoded UUID. When {@code b58} is a {@code String} it becomes
+     * the id's memoized string form, since a valid encoding is unique.
+     *
+     * @param b58 The Base58-encoded UUID
+     * @return The id
+     * @throws B58UUIDException if the input string is invalid
+     */
+    public static B58Id parse(CharSequence b58) throws B58UUIDException {
+        long[] bits = new long[2];
+        B58UUID.decodeBits(b58, bits, 0);
+        return new B58Id(bits[0], bits[1], b58 instanceof String ? (String) b58 : null);
+    }
+    
+    /**
+     * Returns the most significant 64 bits of the UUID.
+     *
+     * @return The most significant bits
+     */
+    public long getMostSignificantBits() {
+        return msb;
+    }
+    
+    /**
+     * Returns the least significant 64 bits of the UUID.
+     *
+     * @return The least significant bits
+     */
+    public long getLeastSignificantBits() {
+        return lsb;
+    }
+    
+    /**
+     * Returns this id as a {@link UUID}.
+     *
+     * @return The UUID
+     */
+    public UUID toUUID() {
+        return new UUID(msb, lsb);
+    }
+    
+    /**
+     * Returns this id as 16 big-endian bytes.
+     *
+     * @return A new 16-byte array
+     */
+    public byte[] toBytes() {
+        byte[] result = new byte[16];
+        Platform.writeLong(result, 0, msb);
+        Platform.writeLong(result, 8, lsb);
+        return result;
+    }
+    
+    /**
+     * Returns the 22-character Base58 encoding, encoding it on the first call.
+     *
+     * @return The Base58-encoded UUID
+     */
+    @Override
+    public String toString() {
+        String result = encoded;
+        if (result == null) {
+            result = B58UUID.encode(msb, lsb);
+            encoded = result;
+        }
+        return result;
+    }
+    
+    /**
+     * Returns 22, the length of every Base58 encoding.
+     */
+    @Override
+    public int length() {
+        return 22;
+    }
+    
+    @Override
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+    
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+    
+    /**
+     * Compares ids as unsigned 128-bit values, which is also the order of their
+     * Base58 strings.
+     */
+    @Override
+    public int compareTo(B58Id other) {
+        int result = Long.compareUnsigned(msb, other.msb);
+        return result != 0 ? result : Long.compareUnsigned(lsb, other.lsb);
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof B58Id)) {
+            return false;
+        }
+        B58Id other = (B58Id) obj;
+        return msb == other.msb && lsb == other.lsb;
+    }
+    
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+    
+    private static int hash(long msb, long lsb) {
+        long h = B58UUID.hash64(msb, lsb);
+        return (int) (h ^ (h >>> 32));
+    }
+    
+    private Object writeReplace() {
+        return new SerializedForm(msb, lsb);
+    }
+    
+    private void readObject(ObjectInputStream in) throws InvalidObjectException {
+        throw new InvalidObjectException("B58Id is deserialized through its serialized form");
+    }
+    
+    /**
+     * Serialized form of a {@link B58Id}: the two longs, from which the hash is
+     * recomputed on the way back in.
+     */
+    private static final class SerializedForm implements Serializable {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final long msb;
+        private final long lsb;
+        
+        SerializedForm(long msb, long lsb) {
+            this.msb = msb;
+            this.lsb = lsb;
+        }
+        
+        private Object readResolve() {
+            return of(msb, lsb);
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package io.b58uuid;
 
-import java.security.SecureRandom;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Fast Base58 encoding/decoding for UUIDs with zero dependencies.
@@ -24,6 +34,93 @@ public final class B58UUID {
      */
     private static final String BASE58_ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
     
+    /**
+     * Base58 alphabet as a char array, indexed by digit value during encoding.
+     */
+    private static final char[] ALPHABET = BASE58_ALPHABET.toCharArray();
+    
+    /**
+     * Base58 alphabet as ASCII bytes, for encoding into byte-oriented targets.
+     */
+    private static final byte[] ALPHABET_BYTES = new byte[58];
+    
+    /**
+     * Per-thread staging array for {@link #encode(long, long, OutputStream)}, which must
+     * hand a stream all 22 bytes in one write.
+     */
+    private static final ThreadLocal<byte[]> STREAM_SCRATCH = ThreadLocal.withInitial(() -> new byte[22]);
+    
+    /**
+     * 58^5, the chunk size used by the encoder. Five Base58 digits fit in an int
+     * and a remainder shifted left by 32 bits still fits in a signed long.
+     */
+    private static final long P5 = 656356768L;
+    
+    /**
+     * 58^10, the chunk size used by the decoder. Ten Base58 digits fit in a long.
+     */
+    private static final long P10 = 430804206899405824L;
+    
+    /**
+     * Decoder chunks (first 2 digits, next 10, last 10) of the largest valid
+     * string, "YcVfxkQb6JRzqk5kF2tNLv" (2^128 - 1). Because every chunk is
+     * below its radix, comparing chunk tuples compares the decoded values.
+     */
+    private static final long MAX_HEAD = 1833L;
+    private static final long MAX_MIDDLE = 212963933380338069L;
+    private static final long MAX_TAIL = 362044810117614591L;
+    
+    /**
+     * The same largest string as big-endian ASCII words at offsets 0, 8 and 14.
+     * Fixed-width strings over the ASCII-ordered alphabet compare like their
+     * values, so an id is in range when its words do not exceed these.
+     */
+    private static final long MAX_WORD_0 = 0x59635666786B5162L;
+    private static final long MAX_WORD_8 = 0x364A527A716B356BL;
+    private static final long MAX_WORD_14 = 0x356B4632744E4C76L;
+    
+    /**
+     * 0x01 and 0x80 in every byte, for the SWAR alphabet check in {@link #alphabetMask}.
+     */
+    private static final long SWAR_ONES = 0x0101010101010101L;
+    private static final long SWAR_HIGH = 0x8080808080808080L;
+    
+    private static final long LOW_32 = 0xFFFFFFFFL;
+    
+    /**
+     * Ids generated per block by the bulk generators. Their 4 KB of entropy is drawn
+     * in bulk and their bits stay in a small reusable array.
+     */
+    private static final int GENERATE_BLOCK = 256;
+    
+    /**
+     * System property naming the {@link java.security.SecureRandom} algorithm used by
+     * {@link #generate()}, for example {@code NativePRNGNonBlocking} or {@code DRBG}.
+     * Unset means the platform default. Read on first generation.
+     */
+    public static final String RANDOM_ALGORITHM_PROPERTY = "b58uuid.random.algorithm";
+    
+    /**
+     * System property giving the number of random bytes after which each generator
+     * behind {@link #generate()} is replaced by a freshly seeded one. Unset or 0
+     * keeps the provider's own reseeding. Read on first generation.
+     */
+    public static final String RANDOM_RESEED_PROPERTY = "b58uuid.random.reseedBytes";
+    
+    /**
+     * Orders Base58-encoded UUIDs by the values they encode, as {@link #compareEncoded}.
+     * Consistent with {@link String#compareTo} for valid encodings.
+     */
+    public static final Comparator<CharSequence> ENCODED_ORDER = B58UUID::compareEncoded;
+    
+    /**
+     * Status returned by {@link #tryDecode} when the input is a valid Base58 UUID.
+     * Any other status packs an error type and, where applicable, the position of
+     * the offending character; use {@link #errorType(int)} and
+     * {@link #errorPosition(int)} to unpack it.
+     */
+    public static final int OK = 0;
+    
     /**
      * Precomputed reverse lookup table for Base58 decoding.
      * Maps ASCII character codes to their Base58 values (0-57) or -1 for invalid characters.
@@ -31,10 +128,30 @@ public final class B58UUID {
     private static final byte[] REVERSE_ALPHABET = new byte[256];
     
     /**
-     * Secure random number generator for UUID generation.
-     * Uses SecureRandom for cryptographic strength randomness.
+     * Prefix of the URN form of a UUID string, matched case-insensitively.
+     */
+    private static final String URN_PREFIX = "urn:uuid:";
+    
+    /**
+     * Maps ASCII character codes to their hex digit values (0-15) or -1 for
+     * anything that is not a hex digit.
+     */
+    private static final byte[] HEX_VALUES = new byte[128];
+    
+    /**
+     * The two lowercase hex characters of every byte value, at {@code [2 * b, 2 * b + 1]}.
+     */
+    private static final char[] HEX_PAIRS = new char[512];
+    
+    /**
+     * Offset of the hex pair of each UUID byte within the 36-character canonical form.
+     */
+    private static final byte[] HEX_OFFSETS = {0, 2, 4, 6, 9, 11, 14, 16, 19, 21, 24, 26, 28, 30, 32, 34};
+    
+    /**
+     * Error types indexed by ordinal, for unpacking {@link #tryDecode} statuses.
      */
-    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+    private static final B58UUIDException.ErrorType[] ERROR_TYPES = B58UUIDException.ErrorType.values();
     
     static {
         // Initialize the reverse lookup table
@@ -45,6 +162,17 @@ public final class B58UUID {
         for (byte i = 0; i < 58; i++) {
             char ch = BASE58_ALPHABET.charAt(i);
             REVERSE_ALPHABET[ch] = i;
+            ALPHABET_BYTES[i] = (byte) ch;
+        }
+        
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (byte i = 0; i < 16; i++) {
+            HEX_VALUES["0123456789abcdef".charAt(i)] = i;
+            HEX_VALUES["0123456789ABCDEF".charAt(i)] = i;
+        }
+        for (int b = 0; b < 256; b++) {
+            HEX_PAIRS[2 * b] = "0123456789abcdef".charAt(b >>> 4);
+            HEX_PAIRS[2 * b + 1] = "0123456789abcdef".charAt(b & 0xF);
         }
     }
     
@@ -65,34 +193,177 @@ public final class B58UUID {
      */
     public static String encode(byte[] data) throws B58UUIDException {
         if (data == null) {
-            throw new B58UUIDException(B58UUIDException.ErrorType.INVALID_UUID, "Input data cannot be null");
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_UUID, "Input data cannot be null");
         }
         if (data.length != 16) {
-            throw new B58UUIDException(B58UUIDException.ErrorType.INVALID_LENGTH, 
-                String.format("Input must be exactly 16 bytes, got %d", data.length));
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_LENGTH, 
+                "Input must be exactly 16 bytes, got %d", data.length);
         }
         
-        // Convert bytes to a large integer (using byte array as big-endian)
-        // We'll use a byte array to represent the number and do division manually
-        byte[] num = data.clone();
-        
-        // Build result by repeatedly dividing by 58
-        StringBuilder result = new StringBuilder();
-        
-        while (!isAllZero(num)) {
-            int remainder = divideBy58(num);
-            result.append(BASE58_ALPHABET.charAt(remainder));
+        return encode(Platform.readLong(data, 0), Platform.readLong(data, 8));
+    }
+    
+    /**
+     * Encodes a {@link UUID} to a Base58 string.
+     * 
+     * @param uuid The UUID to encode
+     * @return The Base58-encoded UUID string (exactly 22 characters)
+     * @throws B58UUIDException if the UUID is null
+     */
+    public static String encode(UUID uuid) throws B58UUIDException {
+        if (uuid == null) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_UUID, "UUID cannot be null");
         }
-        
-        // Reverse to get correct order
-        result.reverse();
-        
-        // Pad with leading '1' to ensure exactly 22 characters
-        while (result.length() < 22) {
-            result.insert(0, '1');
+        return encode(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+    
+    /**
+     * Encodes a UUID given as its two 64-bit halves to a Base58 string.
+     * 
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @return The Base58-encoded UUID string (exactly 22 characters)
+     */
+    public static String encode(long msb, long lsb) {
+        byte[] ascii = new byte[22];
+        encodeTo(msb, lsb, ascii, 0);
+        return asciiString(ascii);
+    }
+    
+    /**
+     * Encodes a UUID into {@code dst} as 22 characters starting at {@code offset}.
+     * 
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @param dst The destination array
+     * @param offset The index of the first character to write
+     * @return The index just past the last character written ({@code offset + 22})
+     * @throws IndexOutOfBoundsException if fewer than 22 characters fit at {@code offset}
+     */
+    public static int encode(long msb, long lsb, char[] dst, int offset) {
+        checkRange(dst.length, offset);
+        encodeTo(msb, lsb, dst, offset);
+        return offset + 22;
+    }
+    
+    /**
+     * Encodes a UUID into {@code dst} as 22 ASCII bytes starting at {@code offset}.
+     * 
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @param dst The destination array
+     * @param offset The index of the first byte to write
+     * @return The index just past the last byte written ({@code offset + 22})
+     * @throws IndexOutOfBoundsException if fewer than 22 bytes fit at {@code offset}
+     */
+    public static int encode(long msb, long lsb, byte[] dst, int offset) {
+        checkRange(dst.length, offset);
+        encodeTo(msb, lsb, dst, offset);
+        return offset + 22;
+    }
+    
+    /**
+     * Encodes a UUID as 22 ASCII bytes at the buffer's position and advances it.
+     * Heap buffers are written through their array; other buffers, such as direct
+     * ones, with absolute puts. Neither allocates.
+     * 
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @param dst The destination buffer
+     * @return The new buffer position
+     * @throws BufferOverflowException if fewer than 22 bytes remain
+     */
+    public static int encode(long msb, long lsb, ByteBuffer dst) {
+        if (dst.remaining() < 22) {
+            throw new BufferOverflowException();
         }
-        
-        return result.toString();
+        int position = dst.position();
+        if (dst.hasArray()) {
+            encodeTo(msb, lsb, dst.array(), dst.arrayOffset() + position);
+            dst.position(position + 22);
+        } else {
+            encodeTo(msb, lsb, dst, position);
+            dst.position(position + 22);
+        }
+        return dst.position();
+    }
+    
+    /**
+     * Encodes a UUID as 22 characters at the buffer's position and advances it.
+     * Heap buffers are written through their array; other buffers with absolute
+     * puts. Neither allocates.
+     * 
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @param dst The destination buffer
+     * @return The new buffer position
+     * @throws BufferOverflowException if fewer than 22 characters remain
+     */
+    public static int encode(long msb, long lsb, CharBuffer dst) {
+        if (dst.remaining() < 22) {
+            throw new BufferOverflowException();
+        }
+        int position = dst.position();
+        if (dst.hasArray()) {
+            encodeTo(msb, lsb, dst.array(), dst.arrayOffset() + position);
+            dst.position(position + 22);
+        } else {
+            encodeTo(msb, lsb, dst, position);
+            dst.position(position + 22);
+        }
+        return dst.position();
+    }
+    
+    /**
+     * Appends the 22-character encoding of a UUID to a {@link StringBuilder}.
+     * 
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @param dst The builder to append to
+     * @return The new length of the builder
+     */
+    public static int encode(long msb, long lsb, StringBuilder dst) {
+        int start = dst.length();
+        dst.setLength(start + 22);
+        encodeTo(msb, lsb, dst, start);
+        return start + 22;
+    }
+    
+    /**
+     * Appends the 22-character encoding of a UUID to an {@link Appendable}.
+     * {@link StringBuilder} and {@link CharBuffer} targets are written in place; other
+     * targets receive 22 {@code append(char)} calls in order. Nothing is allocated.
+     * 
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @param dst The target to append to
+     * @throws IOException if the target fails to append
+     */
+    public static void encode(long msb, long lsb, Appendable dst) throws IOException {
+        if (dst instanceof StringBuilder) {
+            encode(msb, lsb, (StringBuilder) dst);
+        } else if (dst instanceof CharBuffer) {
+            encode(msb, lsb, (CharBuffer) dst);
+        } else {
+            appendTo(msb, lsb, dst);
+        }
+    }
+    
+    /**
+     * Writes the 22-character encoding of a UUID to an {@link OutputStream} as ASCII
+     * bytes, using a single {@code write(byte[], int, int)} call. The bytes are staged
+     * in a 22-byte array kept per thread, so the only allocation is that array, once
+     * for each thread that calls this method.
+     * 
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @param dst The stream to write to
+     * @throws IOException if the stream fails to write
+     */
+    public static void encode(long msb, long lsb, OutputStream dst) throws IOException {
+        byte[] ascii = STREAM_SCRATCH.get();
+        encodeTo(msb, lsb, ascii, 0);
+        dst.write(ascii, 0, 22);
     }
     
     /**
@@ -103,207 +374,1765 @@ public final class B58UUID {
      * @throws B58UUIDException if the input string is invalid
      */
     public static byte[] decode(String b58) throws B58UUIDException {
-        if (b58 == null || b58.isEmpty()) {
-            throw new B58UUIDException(B58UUIDException.ErrorType.INVALID_BASE58, "Empty Base58 string");
-        }
+        checkLength(b58);
         
-        // Validate length - should be 22 characters for 16-byte UUID
-        if (b58.length() != 22) {
-            throw new B58UUIDException(B58UUIDException.ErrorType.INVALID_BASE58, 
-                String.format("Invalid Base58 length: expected 22, got %d", b58.length()));
+        long head = digits(b58, 0, 2);
+        long middle = digits(b58, 2, 12);
+        long tail = digits(b58, 12, 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(b58, 0);
         }
+        checkOverflow(head, middle, tail);
         
-        // Use manual multiplication approach for exact byte preservation
         byte[] result = new byte[16];
+        Platform.writeLong(result, 0, high(head, middle, tail));
+        Platform.writeLong(result, 8, low(head, middle, tail));
+        return result;
+    }
+    
+    /**
+     * Decodes a Base58 string to the two 64-bit halves of the UUID, without
+     * allocating. The most significant bits are stored at {@code bits[offset]}
+     * and the least significant bits at {@code bits[offset + 1]}.
+     * 
+     * @param b58 The Base58-encoded string
+     * @param bits The destination array
+     * @param offset The index at which to store the most significant bits
+     * @throws B58UUIDException if the input string is invalid
+     */
+    public static void decodeBits(CharSequence b58, long[] bits, int offset) throws B58UUIDException {
+        checkLength(b58);
+        decodeBits(b58, 0, bits, offset);
+    }
+    
+    /**
+     * Decodes the 22 Base58 characters starting at {@code start} to the two 64-bit
+     * halves of the UUID, without copying the range out of the sequence. Characters
+     * after the 22nd are ignored, so ids can be read in place from larger text.
+     * 
+     * @param src The sequence containing the Base58-encoded UUID
+     * @param start The index of the first Base58 character
+     * @param bits The destination array
+     * @param offset The index at which to store the most significant bits
+     * @throws B58UUIDException if fewer than 22 characters remain or they are invalid
+     * @throws IndexOutOfBoundsException if {@code start} is outside the sequence
+     */
+    public static void decodeBits(CharSequence src, int start, long[] bits, int offset) throws B58UUIDException {
+        checkAvailable(src.length(), start);
         
-        // Process the Base58 string
-        for (int i = 0; i < b58.length(); i++) {
-            char ch = b58.charAt(i);
-            byte digit = REVERSE_ALPHABET[ch];
-            
-            if (digit == -1) {
-                throw new B58UUIDException(B58UUIDException.ErrorType.INVALID_BASE58, 
-                    String.format("Invalid character at position %d: %c", i, ch));
-            }
-            
-            // Check for overflow before multiplication
-            if (willOverflowOnMultiply(result)) {
-                throw new B58UUIDException(B58UUIDException.ErrorType.OVERFLOW, 
-                    "Decoded value exceeds maximum UUID value (2^128 - 1)");
-            }
-            
-            multiplyBy58(result);
-            
-            // Check for overflow before addition
-            if (willOverflowOnAdd(result, digit)) {
-                throw new B58UUIDException(B58UUIDException.ErrorType.OVERFLOW, 
-                    "Decoded value exceeds maximum UUID value (2^128 - 1)");
-            }
-            
-            add(result, digit);
+        long head = digits(src, start, start + 2);
+        long middle = digits(src, start + 2, start + 12);
+        long tail = digits(src, start + 12, start + 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(src, start);
         }
+        checkOverflow(head, middle, tail);
         
-        return result;
+        bits[offset] = high(head, middle, tail);
+        bits[offset + 1] = low(head, middle, tail);
     }
     
     /**
-     * Generates a new random UUID and returns its Base58-encoded representation.
+     * Decodes the 22 ASCII bytes starting at {@code start} to the two 64-bit
+     * halves of the UUID, without building a String.
      * 
-     * @return A new Base58-encoded UUID
+     * @param ascii The array containing the Base58-encoded UUID
+     * @param start The index of the first Base58 byte
+     * @param bits The destination array
+     * @param offset The index at which to store the most significant bits
+     * @throws B58UUIDException if fewer than 22 bytes remain or they are invalid
+     * @throws IndexOutOfBoundsException if {@code start} is outside the array
      */
-    public static String generate() {
-        byte[] bytes = new byte[16];
-        SECURE_RANDOM.nextBytes(bytes);
+    public static void decodeBits(byte[] ascii, int start, long[] bits, int offset) throws B58UUIDException {
+        checkAvailable(ascii.length, start);
+        
+        long head = digits(ascii, start, start + 2);
+        long middle = digits(ascii, start + 2, start + 12);
+        long tail = digits(ascii, start + 12, start + 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(ascii, start);
+        }
+        checkOverflow(head, middle, tail);
         
-        // Set UUID version (4) and variant bits
-        bytes[6] = (byte) ((bytes[6] & 0x0F) | 0x40); // Version 4
-        bytes[8] = (byte) ((bytes[8] & 0x3F) | 0x80); // Variant 10
+        bits[offset] = high(head, middle, tail);
+        bits[offset + 1] = low(head, middle, tail);
+    }
+    
+    /**
+     * Decodes the 22 ASCII bytes starting at absolute index {@code position} to the
+     * two 64-bit halves of the UUID. The buffer's position and limit are not changed.
+     * 
+     * @param src The buffer containing the Base58-encoded UUID
+     * @param position The absolute index of the first Base58 byte
+     * @param bits The destination array
+     * @param offset The index at which to store the most significant bits
+     * @throws B58UUIDException if fewer than 22 bytes remain before the limit or they are invalid
+     * @throws IndexOutOfBoundsException if {@code position} is outside the buffer's limit
+     */
+    public static void decodeBits(ByteBuffer src, int position, long[] bits, int offset) throws B58UUIDException {
+        if (src.hasArray()) {
+            checkAvailable(src.limit(), position);
+            decodeBits(src.array(), src.arrayOffset() + position, bits, offset);
+            return;
+        }
+        checkAvailable(src.limit(), position);
         
-        try {
-            return encode(bytes);
-        } catch (B58UUIDException e) {
-            // This should never happen with 16-byte array
-            throw new RuntimeException("Unexpected encoding error", e);
+        long head = digits(src, position, position + 2);
+        long middle = digits(src, position + 2, position + 12);
+        long tail = digits(src, position + 12, position + 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(src, position);
         }
+        checkOverflow(head, middle, tail);
+        
+        bits[offset] = high(head, middle, tail);
+        bits[offset + 1] = low(head, middle, tail);
     }
     
     /**
-     * Encodes a UUID string to Base58 format.
+     * Decodes a Base58 string to a {@link UUID}, without any intermediate
+     * hex string or byte array.
      * 
-     * @param uuidStr A UUID string in standard format (with or without hyphens)
-     * @return The Base58-encoded UUID
-     * @throws B58UUIDException if the input string is not a valid UUID
+     * @param b58 The Base58-encoded string
+     * @return The decoded UUID
+     * @throws B58UUIDException if the input string is invalid
      */
-    public static String encodeUUID(String uuidStr) throws B58UUIDException {
-        if (uuidStr == null) {
-            throw new B58UUIDException(B58UUIDException.ErrorType.INVALID_UUID, "UUID string cannot be null");
+    public static UUID decodeToJavaUUID(CharSequence b58) throws B58UUIDException {
+        checkLength(b58);
+        return decodeToJavaUUID(b58, 0);
+    }
+    
+    /**
+     * Decodes the 22 Base58 characters starting at {@code start} to a {@link UUID}.
+     * 
+     * @param src The sequence containing the Base58-encoded UUID
+     * @param start The index of the first Base58 character
+     * @return The decoded UUID
+     * @throws B58UUIDException if fewer than 22 characters remain or they are invalid
+     * @throws IndexOutOfBoundsException if {@code start} is outside the sequence
+     */
+    public static UUID decodeToJavaUUID(CharSequence src, int start) throws B58UUIDException {
+        checkAvailable(src.length(), start);
+        
+        long head = digits(src, start, start + 2);
+        long middle = digits(src, start + 2, start + 12);
+        long tail = digits(src, start + 12, start + 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(src, start);
         }
+        checkOverflow(head, middle, tail);
         
-        String cleaned = uuidStr.replace("-", "");
+        return new UUID(high(head, middle, tail), low(head, middle, tail));
+    }
+    
+    /**
+     * Decodes the 22 ASCII bytes starting at {@code start} to a {@link UUID}.
+     * 
+     * @param ascii The array containing the Base58-encoded UUID
+     * @param start The index of the first Base58 byte
+     * @return The decoded UUID
+     * @throws B58UUIDException if fewer than 22 bytes remain or they are invalid
+     * @throws IndexOutOfBoundsException if {@code start} is outside the array
+     */
+    public static UUID decodeToJavaUUID(byte[] ascii, int start) throws B58UUIDException {
+        checkAvailable(ascii.length, start);
         
-        if (cleaned.length() != 32) {
-            throw new B58UUIDException(B58UUIDException.ErrorType.INVALID_LENGTH, 
-                String.format("Invalid UUID length: expected 32 hex characters, got %d", cleaned.length()));
+        long head = digits(ascii, start, start + 2);
+        long middle = digits(ascii, start + 2, start + 12);
+        long tail = digits(ascii, start + 12, start + 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(ascii, start);
         }
+        checkOverflow(head, middle, tail);
         
-        // Validate that all characters are hex
-        for (int i = 0; i < cleaned.length(); i++) {
-            char ch = cleaned.charAt(i);
-            if (!((ch >= '0' && ch <= '9') || (ch >= 'a' && ch <= 'f') || (ch >= 'A' && ch <= 'F'))) {
-                throw new B58UUIDException(B58UUIDException.ErrorType.INVALID_UUID, 
-                    String.format("Invalid hex character at position %d: %c", i, ch));
-            }
+        return new UUID(high(head, middle, tail), low(head, middle, tail));
+    }
+    
+    /**
+     * Checks whether a string is a valid Base58-encoded UUID: exactly 22 characters,
+     * all from the Base58 alphabet, with a value that fits in 128 bits.
+     * Never throws and does not allocate.
+     * 
+     * @param b58 The string to check, may be null
+     * @return true if {@link #decode(String)} would succeed
+     */
+    public static boolean isValid(CharSequence b58) {
+        if (b58 == null || b58.length() != 22) {
+            return false;
+        }
+        long head = digits(b58, 0, 2);
+        long middle = digits(b58, 2, 12);
+        long tail = digits(b58, 12, 22);
+        return (head | middle | tail) >= 0 && !exceedsMax(head, middle, tail);
+    }
+    
+    /**
+     * Checks whether the 22 ASCII bytes starting at {@code start} are a valid
+     * Base58-encoded UUID. The bytes are checked eight at a time as three longs,
+     * against the alphabet ranges and the 128-bit bound, without table lookups or
+     * per-byte branches. Never throws and does not allocate.
+     * 
+     * @param ascii The array containing the Base58-encoded UUID, may be null
+     * @param start The index of the first Base58 byte
+     * @return true if {@link #decodeBits(byte[], int, long[], int)} would succeed;
+     *         false also when fewer than 22 bytes are available at {@code start}
+     */
+    public static boolean isValid(byte[] ascii, int start) {
+        if (ascii == null || start < 0 || start > ascii.length - 22) {
+            return false;
+        }
+        return isValidAt(ascii, start);
+    }
+    
+    /**
+     * Checks consecutive 22-byte ASCII ids starting at {@code offset}, as laid out by
+     * {@link #encodeAll}, and returns the first invalid one. Each id is checked as in
+     * {@link #isValid(byte[], int)}, so rejecting bad input costs a few long
+     * operations per id; {@link #decodeBits(byte[], int, long[], int)} on the
+     * reported id gives the error and its position.
+     * 
+     * @param ascii The buffer holding the encoded ids back to back
+     * @param offset The index in {@code ascii} of the first id
+     * @param count The number of ids to check
+     * @return The index (0 to {@code count - 1}) of the first invalid id, or -1 if all are valid
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @throws IndexOutOfBoundsException if the input holds fewer than {@code count} ids
+     */
+    public static int validateAll(byte[] ascii, int offset, int count) {
+        checkCount(count);
+        if (offset < 0 || (long) offset + 22L * count > ascii.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot read %d ids at offset %d from array of length %d", count, offset, ascii.length));
         }
         
-        byte[] bytes = new byte[16];
-        for (int i = 0; i < 16; i++) {
-            String hexByte = cleaned.substring(i * 2, i * 2 + 2);
-            try {
-                bytes[i] = (byte) Integer.parseInt(hexByte, 16);
-            } catch (NumberFormatException e) {
-                throw new B58UUIDException(B58UUIDException.ErrorType.INVALID_UUID, 
-                    String.format("Invalid hex at position %d: %s", i * 2, hexByte), e);
+        for (int i = 0; i < count; i++) {
+            if (!isValidAt(ascii, offset + 22 * i)) {
+                return i;
             }
         }
-        
-        return encode(bytes);
+        return -1;
     }
     
     /**
-     * Decodes a Base58 string to a standard UUID string format.
+     * Decodes a Base58 string to the two 64-bit halves of the UUID, reporting
+     * failure through the returned status instead of an exception. The most
+     * significant bits are stored at {@code bits[offset]} and the least
+     * significant bits at {@code bits[offset + 1]}; on failure {@code bits} is
+     * left untouched.
      * 
-     * @param b58 The Base58-encoded string
-     * @return The UUID string in standard format
-     * @throws B58UUIDException if the input string is invalid
+     * <p>Intended for untrusted input where invalid ids are common, as no
+     * exception, stack trace or message is ever built.</p>
+     * 
+     * @param b58 The Base58-encoded string, may be null
+     * @param bits The destination array
+     * @param offset The index at which to store the most significant bits
+     * @return {@link #OK}, or a status describing the error
      */
-    public static String decodeToUUID(String b58) throws B58UUIDException {
-        byte[] bytes = decode(b58);
+    public static int tryDecode(CharSequence b58, long[] bits, int offset) {
+        if (b58 == null || b58.length() != 22) {
+            return status(B58UUIDException.ErrorType.INVALID_BASE58, -1);
+        }
+        long head = digits(b58, 0, 2);
+        long middle = digits(b58, 2, 12);
+        long tail = digits(b58, 12, 22);
+        if ((head | middle | tail) < 0) {
+            return status(B58UUIDException.ErrorType.INVALID_BASE58, invalidPosition(b58, 0));
+        }
+        if (exceedsMax(head, middle, tail)) {
+            return status(B58UUIDException.ErrorType.OVERFLOW, -1);
+        }
         
-        return String.format("%02x%02x%02x%02x-%02x%02x-%02x%02x-%02x%02x-%02x%02x%02x%02x%02x%02x",
-            bytes[0], bytes[1], bytes[2], bytes[3],
-            bytes[4], bytes[5], bytes[6], bytes[7],
-            bytes[8], bytes[9], bytes[10], bytes[11],
-            bytes[12], bytes[13], bytes[14], bytes[15]);
+        bits[offset] = high(head, middle, tail);
+        bits[offset + 1] = low(head, middle, tail);
+        return OK;
     }
     
-    // Helper methods
+    /**
+     * Returns the error type packed into a {@link #tryDecode} status.
+     * 
+     * @param status A status returned by {@link #tryDecode}
+     * @return The error type, or null if the status is {@link #OK}
+     */
+    public static B58UUIDException.ErrorType errorType(int status) {
+        return status == OK ? null : ERROR_TYPES[(status & 0xFF) - 1];
+    }
+    
+    /**
+     * Returns the position of the offending character packed into a
+     * {@link #tryDecode} status.
+     * 
+     * @param status A status returned by {@link #tryDecode}
+     * @return The zero-based character position, or -1 if the error is not tied
+     *         to a single character (including {@link #OK})
+     */
+    public static int errorPosition(int status) {
+        return (status >>> 8) - 1;
+    }
+    
+    /**
+     * Compares two Base58-encoded UUIDs by the values they encode, without decoding.
+     * 
+     * <p>The alphabet is in ascending ASCII order and every encoding is padded to 22
+     * characters, so for valid encodings the numeric order of the UUIDs (as unsigned
+     * 128-bit values) is the same as the character order of their strings. This
+     * method compares characters directly and does not allocate. Inputs are not
+     * validated; sequences that are not valid encodings are compared
+     * lexicographically, shorter first on a common prefix.</p>
+     * 
+     * @param a The first Base58-encoded UUID
+     * @param b The second Base58-encoded UUID
+     * @return A negative number, zero or a positive number as {@code a} encodes a
+     *         smaller, equal or larger value than {@code b}
+     */
+    public static int compareEncoded(CharSequence a, CharSequence b) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = 0; i < length; i++) {
+            int difference = a.charAt(i) - b.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return a.length() - b.length();
+    }
     
-    private static boolean isAllZero(byte[] data) {
-        for (byte b : data) {
-            if (b != 0) return false;
+    /**
+     * Checks whether a Base58 string encodes the given UUID. Never throws and does
+     * not allocate; an invalid string is simply not equal.
+     * 
+     * @param b58 The Base58-encoded UUID, may be null
+     * @param uuid The UUID to compare with, may be null
+     * @return true if {@code b58} is a valid encoding of {@code uuid}
+     */
+    public static boolean equalsUUID(CharSequence b58, UUID uuid) {
+        if (b58 == null || uuid == null || b58.length() != 22) {
+            return false;
+        }
+        long head = digits(b58, 0, 2);
+        long middle = digits(b58, 2, 12);
+        long tail = digits(b58, 12, 22);
+        return (head | middle | tail) >= 0 && !exceedsMax(head, middle, tail)
+            && low(head, middle, tail) == uuid.getLeastSignificantBits()
+            && high(head, middle, tail) == uuid.getMostSignificantBits();
+    }
+    
+    /**
+     * Checks whether a Base58 string encodes the same UUID as a hex string, in the
+     * format accepted by {@link #encodeUUID(String)} (32 hex digits, case-insensitive,
+     * hyphens ignored, optionally in {@code {...}} or after {@code urn:uuid:}). Never
+     * throws and does not allocate; if either side is invalid the result is false.
+     * 
+     * @param b58 The Base58-encoded UUID, may be null
+     * @param hex The hex UUID string, may be null
+     * @return true if both strings are valid and denote the same UUID
+     */
+    public static boolean equalsHex(CharSequence b58, CharSequence hex) {
+        if (b58 == null || hex == null || b58.length() != 22) {
+            return false;
+        }
+        long head = digits(b58, 0, 2);
+        long middle = digits(b58, 2, 12);
+        long tail = digits(b58, 12, 22);
+        if ((head | middle | tail) < 0 || exceedsMax(head, middle, tail)) {
+            return false;
+        }
+        
+        long msb = 0;
+        long lsb = 0;
+        int count = 0;
+        int start = hexStart(hex);
+        int end = hexEnd(hex, start);
+        for (int i = start; i < end; i++) {
+            char ch = hex.charAt(i);
+            if (ch == '-') {
+                continue;
+            }
+            int digit = hexDigit(ch);
+            if (digit < 0 || count == 32) {
+                return false;
+            }
+            if (count < 16) {
+                msb = (msb << 4) | digit;
+            } else {
+                lsb = (lsb << 4) | digit;
+            }
+            count++;
         }
-        return true;
+        return count == 32 && msb == high(head, middle, tail) && lsb == low(head, middle, tail);
     }
     
-    private static int divideBy58(byte[] data) {
-        int remainder = 0;
-        for (int i = 0; i < data.length; i++) {
-            int value = (remainder << 8) + (data[i] & 0xFF);
-            data[i] = (byte) (value / 58);
-            remainder = value % 58;
+    /**
+     * Returns a 64-bit hash of the UUID encoded by a Base58 string, computed from
+     * the characters without building a byte array or {@link UUID}. The value is
+     * {@link #hash64(long, long)} of the decoded halves.
+     * 
+     * @param b58 The Base58-encoded UUID
+     * @return The 64-bit hash
+     * @throws B58UUIDException if the input string is invalid
+     */
+    public static long hash64(CharSequence b58) throws B58UUIDException {
+        checkLength(b58);
+        
+        long head = digits(b58, 0, 2);
+        long middle = digits(b58, 2, 12);
+        long tail = digits(b58, 12, 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(b58, 0);
         }
-        return remainder;
+        checkOverflow(head, middle, tail);
+        
+        return hash64(high(head, middle, tail), low(head, middle, tail));
+    }
+    
+    /**
+     * Returns a 64-bit hash of a UUID given as its two halves. The hash is part of
+     * the format and never changes, so every b58uuid implementation routes the same
+     * way. It is defined with MurmurHash3's 64-bit finalizer {@code fmix64} as
+     * {@code fmix64(msb ^ fmix64(lsb))}, where
+     * 
+     * <pre>
+     * fmix64(k): k ^= k &gt;&gt;&gt; 33; k *= 0xff51afd7ed558ccd;
+     *            k ^= k &gt;&gt;&gt; 33; k *= 0xc4ceb9fe1a85ec53;
+     *            k ^= k &gt;&gt;&gt; 33
+     * </pre>
+     * 
+     * with 64-bit wrapping multiplication and logical shifts.
+     * 
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @return The 64-bit hash
+     */
+    public static long hash64(long msb, long lsb) {
+        return fmix64(msb ^ fmix64(lsb));
     }
     
-    private static void multiplyBy58(byte[] data) {
-        int carry = 0;
-        for (int i = data.length - 1; i >= 0; i--) {
-            int value = (data[i] & 0xFF) * 58 + carry;
-            data[i] = (byte) (value & 0xFF);
-            carry = value >> 8;
+    /**
+     * Returns the shard, in {@code [0, shards)}, that a Base58-encoded UUID is routed
+     * to. Shards are chosen by jump consistent hashing (Lamping and Veach, 2014) of
+     * {@link #hash64(CharSequence)}: when the shard count grows from {@code n} to
+     * {@code n + 1}, only about {@code 1 / (n + 1)} of the ids move, all to the new shard.
+     * 
+     * @param b58 The Base58-encoded UUID
+     * @param shards The number of shards
+     * @return The shard index
+     * @throws B58UUIDException if the input string is invalid
+     * @throws IllegalArgumentException if {@code shards} is not positive
+     */
+    public static int shardOf(CharSequence b58, int shards) throws B58UUIDException {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shards);
         }
+        return jumpConsistentHash(hash64(b58), shards);
     }
     
-    private static void add(byte[] data, int value) {
-        int carry = value;
-        for (int i = data.length - 1; i >= 0 && carry > 0; i--) {
-            int sum = (data[i] & 0xFF) + carry;
-            data[i] = (byte) (sum & 0xFF);
-            carry = sum >> 8;
+    /**
+     * Returns the shard of a UUID given as its two halves; the same as
+     * {@link #shardOf(CharSequence, int)} for its encoding.
+     * 
+     * @param msb The most significant 64 bits of the UUID
+     * @param lsb The least significant 64 bits of the UUID
+     * @param shards The number of shards
+     * @return The shard index
+     * @throws IllegalArgumentException if {@code shards} is not positive
+     */
+    public static int shardOf(long msb, long lsb, int shards) {
+        if (shards <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shards);
         }
+        return jumpConsistentHash(hash64(msb, lsb), shards);
     }
     
     /**
-     * Checks if multiplying the current value by 58 would cause overflow.
+     * Returns the top {@code k} bits of the 128-bit value encoded by a Base58 string,
+     * for range partitioning into {@code 2^k} partitions. Only the most significant
+     * 64 bits are computed. For random (version 4) ids the partitions are even; for
+     * version 7 ids the top 48 bits are the timestamp, so partitions follow time.
      * 
-     * @param data The current byte array
-     * @return true if multiplication would overflow
+     * @param b58 The Base58-encoded UUID
+     * @param k The number of bits, from 0 to 64
+     * @return The top {@code k} bits as an unsigned value in the low bits of the result
+     * @throws B58UUIDException if the input string is invalid
+     * @throws IllegalArgumentException if {@code k} is outside {@code [0, 64]}
      */
-    private static boolean willOverflowOnMultiply(byte[] data) {
-        // Check if the most significant byte would overflow
-        // Max UUID is 0xFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF
-        // If we multiply by 58, we need to ensure result fits in 128 bits
+    public static long partitionBits(CharSequence b58, int k) throws B58UUIDException {
+        if (k < 0 || k > 64) {
+            throw new IllegalArgumentException("Partition bits must be between 0 and 64: " + k);
+        }
+        checkLength(b58);
         
-        // Quick check: if any of the top bits are set, multiplication will overflow
-        if ((data[0] & 0xFF) > 4) {
-            return true;
+        long head = digits(b58, 0, 2);
+        long middle = digits(b58, 2, 12);
+        long tail = digits(b58, 12, 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(b58, 0);
         }
+        checkOverflow(head, middle, tail);
         
-        // More precise check: simulate multiplication and check for carry beyond 16 bytes
-        int carry = 0;
-        for (int i = data.length - 1; i >= 0; i--) {
-            long value = ((long)(data[i] & 0xFF)) * 58L + carry;
-            carry = (int)(value >> 8);
+        return k == 0 ? 0 : high(head, middle, tail) >>> (64 - k);
+    }
+    
+    /**
+     * Encodes the UUIDs in rows {@code [from, to)} of two bit columns into one ASCII
+     * buffer, 22 bytes per id with no separators, starting at {@code offset}.
+     * Uses the same arithmetic as {@link #encode(long, long)}.
+     * 
+     * @param msb The most significant 64 bits of each UUID
+     * @param lsb The least significant 64 bits of each UUID
+     * @param from The first row to encode (inclusive)
+     * @param to The last row to encode (exclusive)
+     * @param out The destination buffer
+     * @param offset The index in {@code out} of the first byte to write
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException if the rows are outside either column or
+     *         the output does not fit in {@code out}
+     */
+    public static int encodeAll(long[] msb, long[] lsb, int from, int to, byte[] out, int offset) {
+        checkRows(msb, lsb, from, to);
+        if (offset < 0 || (long) offset + 22L * (to - from) > out.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot fit %d ids at offset %d in array of length %d", to - from, offset, out.length));
         }
         
-        return carry > 0;
+        return encodeRows(msb, lsb, from, to, out, offset);
     }
     
     /**
-     * Checks if adding a value would cause overflow.
+     * Decodes consecutive 22-byte ASCII ids starting at {@code offset} into rows
+     * {@code [from, to)} of two bit columns. This is the inverse of
+     * {@link #encodeAll} and uses the same arithmetic as {@link #decodeBits}.
      * 
-     * @param data The current byte array
-     * @param value The value to add
-     * @return true if addition would overflow
+     * @param ascii The buffer holding the encoded ids back to back
+     * @param offset The index in {@code ascii} of the first id
+     * @param msb The column receiving the most significant 64 bits of each UUID
+     * @param lsb The column receiving the least significant 64 bits of each UUID
+     * @param from The first row to fill (inclusive)
+     * @param to The last row to fill (exclusive)
+     * @return The index in {@code ascii} just past the last id read
+     * @throws B58UUIDException if an id is invalid; the message names its row, and
+     *         all earlier rows have been filled
+     * @throws IndexOutOfBoundsException if the rows are outside either column or
+     *         the input holds fewer than {@code to - from} ids
      */
-    private static boolean willOverflowOnAdd(byte[] data, int value) {
-        // Check if adding would produce a carry beyond the first byte
-        int carry = value;
-        for (int i = data.length - 1; i >= 0 && carry > 0; i--) {
-            int sum = (data[i] & 0xFF) + carry;
-            carry = sum >> 8;
+    public static int decodeAll(byte[] ascii, int offset, long[] msb, long[] lsb, int from, int to) 
+            throws B58UUIDException {
+        checkRows(msb, lsb, from, to);
+        if (offset < 0 || (long) offset + 22L * (to - from) > ascii.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot read %d ids at offset %d from array of length %d", to - from, offset, ascii.length));
         }
         
-        return carry > 0;
+        return decodeRows(ascii, offset, msb, lsb, from, to);
+    }
+    
+    /**
+     * Parallel variant of {@link #encodeAll} running on the common
+     * {@link ForkJoinPool}. See {@link #parallelEncodeAll(long[], long[], int, int, byte[], int, Executor)}.
+     * 
+     * @param msb The most significant 64 bits of each UUID
+     * @param lsb The least significant 64 bits of each UUID
+     * @param from The first row to encode (inclusive)
+     * @param to The last row to encode (exclusive)
+     * @param out The destination buffer
+     * @param offset The index in {@code out} of the first byte to write
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException if the rows are outside either column or
+     *         the output does not fit in {@code out}
+     */
+    public static int parallelEncodeAll(long[] msb, long[] lsb, int from, int to, byte[] out, int offset) {
+        return parallelEncodeAll(msb, lsb, from, to, out, offset, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Parallel variant of {@link #encodeAll}. The rows are split into chunks of a
+     * few thousand ids, each encoded on {@code executor}; ranges below a threshold
+     * of about 16K rows are encoded on the calling thread. The output is byte for
+     * byte the same as {@link #encodeAll}. Returns once every chunk is written.
+     * 
+     * <p>When {@code executor} is not a {@link ForkJoinPool} the calling thread
+     * encodes the first chunk and then blocks, so a bounded executor must not be
+     * used from one of its own threads.</p>
+     * 
+     * @param msb The most significant 64 bits of each UUID
+     * @param lsb The least significant 64 bits of each UUID
+     * @param from The first row to encode (inclusive)
+     * @param to The last row to encode (exclusive)
+     * @param out The destination buffer
+     * @param offset The index in {@code out} of the first byte to write
+     * @param executor The executor running the chunks
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException if the rows are outside either column or
+     *         the output does not fit in {@code out}
+     */
+    public static int parallelEncodeAll(long[] msb, long[] lsb, int from, int to, 
+            byte[] out, int offset, Executor executor) {
+        checkRows(msb, lsb, from, to);
+        if (offset < 0 || (long) offset + 22L * (to - from) > out.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot fit %d ids at offset %d in array of length %d", to - from, offset, out.length));
+        }
+        
+        ParallelRows.forEach(from, to, executor, (start, end) -> 
+            encodeRows(msb, lsb, start, end, out, offset + 22 * (start - from)));
+        return offset + 22 * (to - from);
+    }
+    
+    /**
+     * Parallel variant of {@link #decodeAll} running on the common
+     * {@link ForkJoinPool}. See {@link #parallelDecodeAll(byte[], int, long[], long[], int, int, Executor)}.
+     * 
+     * @param ascii The buffer holding the encoded ids back to back
+     * @param offset The index in {@code ascii} of the first id
+     * @param msb The column receiving the most significant 64 bits of each UUID
+     * @param lsb The column receiving the least significant 64 bits of each UUID
+     * @param from The first row to fill (inclusive)
+     * @param to The last row to fill (exclusive)
+     * @return The index in {@code ascii} just past the last id read
+     * @throws B58UUIDException if an id is invalid
+     * @throws IndexOutOfBoundsException if the rows are outside either column or
+     *         the input holds fewer than {@code to - from} ids
+     */
+    public static int parallelDecodeAll(byte[] ascii, int offset, long[] msb, long[] lsb, int from, int to) 
+            throws B58UUIDException {
+        return parallelDecodeAll(ascii, offset, msb, lsb, from, to, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Parallel variant of {@link #decodeAll}, split into chunks the same way as
+     * {@link #parallelEncodeAll(long[], long[], int, int, byte[], int, Executor)}.
+     * Decoded rows are the same as {@link #decodeAll} would produce.
+     * 
+     * @param ascii The buffer holding the encoded ids back to back
+     * @param offset The index in {@code ascii} of the first id
+     * @param msb The column receiving the most significant 64 bits of each UUID
+     * @param lsb The column receiving the least significant 64 bits of each UUID
+     * @param from The first row to fill (inclusive)
+     * @param to The last row to fill (exclusive)
+     * @param executor The executor running the chunks
+     * @return The index in {@code ascii} just past the last id read
+     * @throws B58UUIDException if an id is invalid; the exception is the one
+     *         {@link #decodeAll} would throw for the lowest invalid row, while
+     *         rows in other chunks may or may not have been filled
+     * @throws IndexOutOfBoundsException if the rows are outside either column or
+     *         the input holds fewer than {@code to - from} ids
+     */
+    public static int parallelDecodeAll(byte[] ascii, int offset, long[] msb, long[] lsb, 
+            int from, int to, Executor executor) throws B58UUIDException {
+        checkRows(msb, lsb, from, to);
+        if (offset < 0 || (long) offset + 22L * (to - from) > ascii.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot read %d ids at offset %d from array of length %d", to - from, offset, ascii.length));
+        }
+        
+        B58UUIDException failure = ParallelRows.forEach(from, to, executor, (start, end) -> 
+            decodeRows(ascii, offset + 22 * (start - from), msb, lsb, start, end));
+        if (failure != null) {
+            throw failure;
+        }
+        return offset + 22 * (to - from);
+    }
+    
+    /**
+     * Encodes every UUID of an array in parallel on the common {@link ForkJoinPool}.
+     * 
+     * @param uuids The UUIDs to encode
+     * @return The Base58 strings, in the same order as {@code uuids}
+     * @throws B58UUIDException if an element is null
+     */
+    public static String[] parallelEncode(UUID[] uuids) throws B58UUIDException {
+        return parallelEncode(uuids, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Encodes every UUID of an array in parallel on {@code executor}; element
+     * {@code i} of the result equals {@code encode(uuids[i])}. Chunking and
+     * blocking behave as in {@link #parallelEncodeAll(long[], long[], int, int, byte[], int, Executor)}.
+     * 
+     * @param uuids The UUIDs to encode
+     * @param executor The executor running the chunks
+     * @return The Base58 strings, in the same order as {@code uuids}
+     * @throws B58UUIDException if an element is null; the message names the lowest such row
+     */
+    public static String[] parallelEncode(UUID[] uuids, Executor executor) throws B58UUIDException {
+        String[] result = new String[uuids.length];
+        B58UUIDException failure = ParallelRows.forEach(0, uuids.length, executor, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                if (uuids[i] == null) {
+                    throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_UUID, 
+                        "UUID at row %d cannot be null", i);
+                }
+                result[i] = encode(uuids[i].getMostSignificantBits(), uuids[i].getLeastSignificantBits());
+            }
+        });
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+    
+    /**
+     * Decodes every Base58 string of an array in parallel on the common {@link ForkJoinPool}.
+     * 
+     * @param b58 The Base58-encoded strings
+     * @return The decoded UUIDs, in the same order as {@code b58}
+     * @throws B58UUIDException if a string is invalid
+     */
+    public static UUID[] parallelDecode(String[] b58) throws B58UUIDException {
+        return parallelDecode(b58, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Decodes every Base58 string of an array in parallel on {@code executor};
+     * element {@code i} of the result equals {@code decodeToJavaUUID(b58[i])}.
+     * Chunking and blocking behave as in {@link #parallelEncodeAll(long[], long[], int, int, byte[], int, Executor)}.
+     * 
+     * @param b58 The Base58-encoded strings
+     * @param executor The executor running the chunks
+     * @return The decoded UUIDs, in the same order as {@code b58}
+     * @throws B58UUIDException if a string is invalid; the message names the lowest invalid row
+     */
+    public static UUID[] parallelDecode(String[] b58, Executor executor) throws B58UUIDException {
+        UUID[] result = new UUID[b58.length];
+        B58UUIDException failure = ParallelRows.forEach(0, b58.length, executor, (start, end) -> {
+            for (int i = start; i < end; i++) {
+                try {
+                    result[i] = decodeToJavaUUID(b58[i]);
+                } catch (B58UUIDException e) {
+                    throw invalidRow(i, e);
+                }
+            }
+        });
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+    
+    /**
+     * Generates a new random UUID and returns its Base58-encoded representation.
+     * 
+     * <p>The random bits come from a set of independently seeded {@link java.security.SecureRandom}
+     * instances, striped across threads and read in bulk, so concurrent callers
+     * (including virtual threads) rarely wait on each other.</p>
+     * 
+     * @return A new Base58-encoded UUID
+     */
+    public static String generate() {
+        long[] bits = new long[2];
+        StripedSecureRandom.nextBits(bits, 0);
+        return encode(version4(bits[0]), variant10(bits[1]));
+    }
+    
+    /**
+     * Generates {@code n} random UUIDs as bit pairs, without encoding them. UUID
+     * {@code i} is stored with its most significant bits at {@code bits[offset + 2 * i]}
+     * and its least significant bits at {@code bits[offset + 2 * i + 1]}, the layout
+     * read by {@link #encode(long, long)} and written by {@link #decodeBits}.
+     * 
+     * <p>The entropy for the whole batch is drawn from one random source in blocks
+     * of several hundred ids, so the cost per id is a few shifts and masks.</p>
+     * 
+     * @param n The number of UUIDs to generate
+     * @param bits The destination array
+     * @param offset The index at which to store the first most significant bits
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @throws IndexOutOfBoundsException if {@code 2 * n} longs do not fit at {@code offset}
+     */
+    public static void generate(int n, long[] bits, int offset) {
+        checkCount(n);
+        if (offset < 0 || (long) offset + 2L * n > bits.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot fit %d ids at offset %d in array of length %d", n, offset, bits.length));
+        }
+        
+        StripedSecureRandom.nextLongs(bits, offset, 2 * n);
+        for (int i = offset; i < offset + 2 * n; i += 2) {
+            bits[i] = version4(bits[i]);
+            bits[i + 1] = variant10(bits[i + 1]);
+        }
+    }
+    
+    /**
+     * Generates {@code n} random UUIDs into one ASCII buffer, 22 bytes per id with
+     * no separators, starting at {@code offset}. The layout is the one read by
+     * {@link #decodeAll}.
+     * 
+     * @param n The number of UUIDs to generate
+     * @param out The destination buffer
+     * @param offset The index in {@code out} of the first byte to write
+     * @return The index just past the last byte written
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @throws IndexOutOfBoundsException if the output does not fit in {@code out}
+     */
+    public static int generate(int n, byte[] out, int offset) {
+        checkCount(n);
+        if (offset < 0 || (long) offset + 22L * n > out.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot fit %d ids at offset %d in array of length %d", n, offset, out.length));
+        }
+        
+        long[] bits = new long[2 * Math.min(n, GENERATE_BLOCK)];
+        int position = offset;
+        for (int done = 0; done < n; ) {
+            int count = Math.min(n - done, GENERATE_BLOCK);
+            generate(count, bits, 0);
+            for (int i = 0; i < 2 * count; i += 2) {
+                encodeTo(bits[i], bits[i + 1], out, position);
+                position += 22;
+            }
+            done += count;
+        }
+        return position;
+    }
+    
+    /**
+     * Generates {@code n} random UUIDs and returns their Base58 encodings. Equivalent
+     * to calling {@link #generate()} {@code n} times, but draws the entropy in bulk.
+     * 
+     * @param n The number of UUIDs to generate
+     * @return The Base58-encoded UUIDs
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public static String[] generate(int n) {
+        checkCount(n);
+        String[] result = new String[n];
+        generateRows(result, 0, n);
+        return result;
+    }
+    
+    /**
+     * Generates {@code n} random UUIDs as a fixed-size list of Base58 strings.
+     * 
+     * @param n The number of UUIDs to generate
+     * @return The Base58-encoded UUIDs, backed by an array
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @see #generate(int)
+     */
+    public static List<String> generateList(int n) {
+        return Arrays.asList(generate(n));
+    }
+    
+    /**
+     * Generates a time-ordered version 7 UUID (RFC 9562) and returns its Base58-encoded
+     * representation. Ids from this method are strictly increasing within the process,
+     * and because the encoding is fixed-width and the alphabet is in ASCII order, their
+     * strings sort by creation time. Use a {@link B58UUIDv7Generator} directly for a
+     * custom clock or to reserve blocks of consecutive ids.
+     * 
+     * @return A new Base58-encoded version 7 UUID
+     */
+    public static String generateV7() {
+        return V7Holder.GENERATOR.generate();
+    }
+    
+    /**
+     * Returns the Unix timestamp in milliseconds embedded in a Base58-encoded version 7
+     * UUID. Only the most significant 64 bits are computed; no byte array or
+     * {@link UUID} is built.
+     * 
+     * @param b58 The Base58-encoded version 7 UUID
+     * @return The milliseconds since 1970-01-01T00:00:00Z stored in the top 48 bits
+     * @throws B58UUIDException if the string is invalid or not a version 7 UUID
+     */
+    public static long timestampMillis(CharSequence b58) throws B58UUIDException {
+        checkLength(b58);
+        
+        long head = digits(b58, 0, 2);
+        long middle = digits(b58, 2, 12);
+        long tail = digits(b58, 12, 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(b58, 0);
+        }
+        checkOverflow(head, middle, tail);
+        
+        long msb = high(head, middle, tail);
+        int version = (int) (msb >>> 12) & 0xF;
+        if (version != 7) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_UUID, 
+                "Expected a version 7 UUID, got version %d", version);
+        }
+        return msb >>> 16;
+    }
+    
+    /**
+     * Returns the smallest Base58 string of any version 7 UUID created in the
+     * millisecond containing {@code instant}. Since encodings sort like the values
+     * they encode, {@code lowerBound(from)} and {@link #upperBound upperBound(to)}
+     * bracket every version 7 id created between the two instants, so a
+     * string-keyed store can range-scan the encoded column without decoding it.
+     * 
+     * @param instant The start of the range
+     * @return The 22-character lower bound
+     * @throws IllegalArgumentException if the instant is before 1970 or beyond the 48-bit timestamp range
+     */
+    public static String lowerBound(Instant instant) {
+        return encode((checkTimestamp(instant) << 16) | 0x7000L, 0x8000000000000000L);
+    }
+    
+    /**
+     * Returns the largest Base58 string of any version 7 UUID created in the
+     * millisecond containing {@code instant}.
+     * 
+     * @param instant The end of the range (inclusive)
+     * @return The 22-character upper bound
+     * @throws IllegalArgumentException if the instant is before 1970 or beyond the 48-bit timestamp range
+     * @see #lowerBound(Instant)
+     */
+    public static String upperBound(Instant instant) {
+        return encode((checkTimestamp(instant) << 16) | 0x7FFFL, 0xBFFFFFFFFFFFFFFFL);
+    }
+    
+    /**
+     * Generates {@code count} random UUIDs in parallel on the common {@link ForkJoinPool}.
+     * 
+     * @param count The number of UUIDs to generate
+     * @return The Base58-encoded UUIDs
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public static String[] parallelGenerate(int count) {
+        return parallelGenerate(count, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Generates {@code count} random UUIDs in parallel on {@code executor}, as by
+     * {@link #generate(int)}. Chunking and blocking behave as in
+     * {@link #parallelEncodeAll(long[], long[], int, int, byte[], int, Executor)}.
+     * 
+     * @param count The number of UUIDs to generate
+     * @param executor The executor running the chunks
+     * @return The Base58-encoded UUIDs
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    public static String[] parallelGenerate(int count, Executor executor) {
+        checkCount(count);
+        String[] result = new String[count];
+        ParallelRows.forEach(0, count, executor, (start, end) -> generateRows(result, start, end));
+        return result;
+    }
+    
+    /**
+     * Encodes a UUID string to Base58 format.
+     * 
+     * <p>Accepts 32 hex digits, case-insensitive, with or without hyphens, optionally
+     * wrapped in braces ({@code {...}}) or prefixed with {@code urn:uuid:}. The input is
+     * read in place in a single pass, with no intermediate strings or byte array.</p>
+     * 
+     * @param uuidStr A UUID string in standard format (with or without hyphens)
+     * @return The Base58-encoded UUID
+     * @throws B58UUIDException if the input string is not a valid UUID
+     */
+    public static String encodeUUID(String uuidStr) throws B58UUIDException {
+        if (uuidStr == null) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_UUID, "UUID string cannot be null");
+        }
+        
+        int start = hexStart(uuidStr);
+        int end = hexEnd(uuidStr, start);
+        
+        // Canonical 8-4-4-4-12 layout: parse each group at its fixed offset
+        if (end - start == 36 && uuidStr.charAt(start + 8) == '-' && uuidStr.charAt(start + 13) == '-'
+                && uuidStr.charAt(start + 18) == '-' && uuidStr.charAt(start + 23) == '-') {
+            long g1 = hexBits(uuidStr, start, start + 8);
+            long g2 = hexBits(uuidStr, start + 9, start + 13);
+            long g3 = hexBits(uuidStr, start + 14, start + 18);
+            long g4 = hexBits(uuidStr, start + 19, start + 23);
+            long g5 = hexBits(uuidStr, start + 24, start + 36);
+            if ((g1 | g2 | g3 | g4 | g5) >= 0) {
+                return encode((g1 << 32) | (g2 << 16) | g3, (g4 << 48) | g5);
+            }
+        }
+        
+        // Any other layout: hyphens are skipped wherever they are, and positions
+        // count hex characters only, as if the hyphens had been removed first
+        long msb = 0;
+        long lsb = 0;
+        int count = 0;
+        int invalidAt = -1;
+        char invalid = 0;
+        for (int i = start; i < end; i++) {
+            char ch = uuidStr.charAt(i);
+            if (ch == '-') {
+                continue;
+            }
+            int digit = hexDigit(ch);
+            if (digit < 0 && invalidAt < 0) {
+                invalidAt = count;
+                invalid = ch;
+            }
+            if (count < 16) {
+                msb = (msb << 4) | (digit & 0xF);
+            } else {
+                lsb = (lsb << 4) | (digit & 0xF);
+            }
+            count++;
+        }
+        
+        if (count != 32) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_LENGTH, 
+                "Invalid UUID length: expected 32 hex characters, got %d", count);
+        }
+        if (invalidAt >= 0) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_UUID, 
+                "Invalid hex character at position %d: %c", invalidAt, invalid);
+        }
+        return encode(msb, lsb);
+    }
+    
+    /**
+     * Decodes a Base58 string to a standard UUID string format.
+     * 
+     * @param b58 The Base58-encoded string
+     * @return The UUID string in standard format
+     * @throws B58UUIDException if the input string is invalid
+     */
+    public static String decodeToUUID(String b58) throws B58UUIDException {
+        byte[] ascii = new byte[36];
+        decodeToUUID(b58, ascii, 0);
+        return asciiString(ascii);
+    }
+    
+    /**
+     * Decodes a Base58 string straight to the 36-character canonical UUID form
+     * ({@code 8-4-4-4-12} lowercase hex) in {@code dst} starting at {@code offset},
+     * without an intermediate byte array.
+     * 
+     * @param b58 The Base58-encoded string
+     * @param dst The destination array
+     * @param offset The index of the first character to write
+     * @return The index just past the last character written ({@code offset + 36})
+     * @throws B58UUIDException if the input string is invalid
+     * @throws IndexOutOfBoundsException if fewer than 36 characters fit at {@code offset}
+     */
+    public static int decodeToUUID(CharSequence b58, char[] dst, int offset) throws B58UUIDException {
+        checkRange(dst.length, offset, 36);
+        checkLength(b58);
+        
+        long head = digits(b58, 0, 2);
+        long middle = digits(b58, 2, 12);
+        long tail = digits(b58, 12, 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(b58, 0);
+        }
+        checkOverflow(head, middle, tail);
+        
+        formatTo(high(head, middle, tail), low(head, middle, tail), dst, offset);
+        return offset + 36;
+    }
+    
+    /**
+     * ASCII variant of {@link #decodeToUUID(CharSequence, char[], int)}, writing the
+     * 36-character canonical UUID form as bytes.
+     * 
+     * @param b58 The Base58-encoded string
+     * @param dst The destination array
+     * @param offset The index of the first byte to write
+     * @return The index just past the last byte written ({@code offset + 36})
+     * @throws B58UUIDException if the input string is invalid
+     * @throws IndexOutOfBoundsException if fewer than 36 bytes fit at {@code offset}
+     */
+    public static int decodeToUUID(CharSequence b58, byte[] dst, int offset) throws B58UUIDException {
+        checkRange(dst.length, offset, 36);
+        checkLength(b58);
+        
+        long head = digits(b58, 0, 2);
+        long middle = digits(b58, 2, 12);
+        long tail = digits(b58, 12, 22);
+        if ((head | middle | tail) < 0) {
+            throw invalidCharacter(b58, 0);
+        }
+        checkOverflow(head, middle, tail);
+        
+        formatTo(high(head, middle, tail), low(head, middle, tail), dst, offset);
+        return offset + 36;
+    }
+    
+    /**
+     * Decodes a Base58 string and appends the 36-character canonical UUID form to an
+     * {@link Appendable} in a single call. Nothing is appended if the input is invalid.
+     * 
+     * @param b58 The Base58-encoded string
+     * @param dst The target to append to
+     * @throws B58UUIDException if the input string is invalid
+     * @throws IOException if the target fails to append
+     */
+    public static void decodeToUUID(CharSequence b58, Appendable dst) throws B58UUIDException, IOException {
+        char[] chars = new char[36];
+        decodeToUUID(b58, chars, 0);
+        if (dst instanceof StringBuilder) {
+            ((StringBuilder) dst).append(chars);
+        } else {
+            dst.append(CharBuffer.wrap(chars));
+        }
+    }
+    
+    // Helper methods
+    
+    /**
+     * Holds the shared version 7 generator, created on first use of {@link #generateV7()}.
+     */
+    private static final class V7Holder {
+        static final B58UUIDv7Generator GENERATOR = new B58UUIDv7Generator();
+    }
+    
+    /**
+     * Encodes rows {@code [from, to)} back to back into {@code out} from {@code position}.
+     * Bounds must already have been checked.
+     */
+    private static int encodeRows(long[] msb, long[] lsb, int from, int to, byte[] out, int position) {
+        for (int i = from; i < to; i++) {
+            encodeTo(msb[i], lsb[i], out, position);
+            position += 22;
+        }
+        return position;
+    }
+    
+    /**
+     * Decodes consecutive ids from {@code position} into rows {@code [from, to)},
+     * stopping at the first invalid one. Bounds must already have been checked.
+     */
+    private static int decodeRows(byte[] ascii, int position, long[] msb, long[] lsb, int from, int to) 
+            throws B58UUIDException {
+        for (int i = from; i < to; i++) {
+            long head = digits(ascii, position, position + 2);
+            long middle = digits(ascii, position + 2, position + 12);
+            long tail = digits(ascii, position + 12, position + 22);
+            if ((head | middle | tail) < 0 || exceedsMax(head, middle, tail)) {
+                throw invalidRow(i, (head | middle | tail) < 0 
+                    ? invalidCharacter(ascii, position) 
+                    : B58UUIDException.create(B58UUIDException.ErrorType.OVERFLOW, 
+                        "Decoded value exceeds maximum UUID value (2^128 - 1)"));
+            }
+            msb[i] = high(head, middle, tail);
+            lsb[i] = low(head, middle, tail);
+            position += 22;
+        }
+        return position;
+    }
+    
+    /**
+     * Fills {@code result[from, to)} with generated ids, drawing entropy a block at a time.
+     */
+    private static void generateRows(String[] result, int from, int to) {
+        long[] bits = new long[2 * Math.min(to - from, GENERATE_BLOCK)];
+        for (int start = from; start < to; start += GENERATE_BLOCK) {
+            int count = Math.min(to - start, GENERATE_BLOCK);
+            generate(count, bits, 0);
+            for (int i = 0; i < count; i++) {
+                result[start + i] = encode(bits[2 * i], bits[2 * i + 1]);
+            }
+        }
+    }
+    
+    /**
+     * Sets the version nibble of the most significant bits to 4.
+     */
+    static long version4(long msb) {
+        return (msb & ~0xF000L) | 0x4000L;
+    }
+    
+    /**
+     * Sets the two variant bits of the least significant bits to 10 (RFC 4122).
+     */
+    static long variant10(long lsb) {
+        return (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    }
+    
+    /**
+     * Returns the millisecond of {@code instant}, checking that it fits the 48-bit
+     * version 7 timestamp.
+     */
+    private static long checkTimestamp(Instant instant) {
+        if (instant == null) {
+            throw new IllegalArgumentException("Instant cannot be null");
+        }
+        if (instant.getEpochSecond() < 0 || instant.getEpochSecond() >= (1L << 48) / 1000) {
+            throw new IllegalArgumentException("Instant outside the version 7 timestamp range: " + instant);
+        }
+        return instant.toEpochMilli();
+    }
+    
+    /**
+     * Validates the number of ids requested from a bulk generator.
+     */
+    static void checkCount(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Count cannot be negative: " + n);
+        }
+    }
+    
+    /**
+     * Wraps the failure of one id in a batch, naming its row.
+     */
+    private static B58UUIDException invalidRow(int row, B58UUIDException cause) {
+        return B58UUIDException.create("Invalid id at row %d: %s", row, cause);
+    }
+    
+    /**
+     * Writes the 22-character Base58 form of a 128-bit value into {@code dst}.
+     * 
+     * The value is divided by 58^5 four times; each round yields the next five
+     * digits from the least significant end. What remains is below 58^2 and
+     * supplies the first two digits. Leading zero digits come out as '1', so no
+     * separate padding pass is needed.
+     * 
+     * @param msb The most significant 64 bits
+     * @param lsb The least significant 64 bits
+     * @param dst The destination array
+     * @param off The index of the first character to write
+     */
+    private static void encodeTo(long msb, long lsb, char[] dst, int off) {
+        long hi = msb;
+        long lo = lsb;
+        for (int end = off + 22; end > off + 2; end -= 5) {
+            long qHi = divideP5(0, hi);
+            long qLo = divideP5(hi - qHi * P5, lo);
+            int chunk = (int) (lo - qLo * P5);
+            hi = qHi;
+            lo = qLo;
+            for (int i = end - 1; i >= end - 5; i--) {
+                dst[i] = ALPHABET[chunk % 58];
+                chunk /= 58;
+            }
+        }
+        int top = (int) lo;
+        dst[off] = ALPHABET[top / 58];
+        dst[off + 1] = ALPHABET[top % 58];
+    }
+    
+    /**
+     * ASCII variant of {@link #encodeTo(long, long, char[], int)}.
+     */
+    private static void encodeTo(long msb, long lsb, byte[] dst, int off) {
+        long hi = msb;
+        long lo = lsb;
+        for (int end = off + 22; end > off + 2; end -= 5) {
+            long qHi = divideP5(0, hi);
+            long qLo = divideP5(hi - qHi * P5, lo);
+            int chunk = (int) (lo - qLo * P5);
+            hi = qHi;
+            lo = qLo;
+            for (int i = end - 1; i >= end - 5; i--) {
+                dst[i] = ALPHABET_BYTES[chunk % 58];
+                chunk /= 58;
+            }
+        }
+        int top = (int) lo;
+        dst[off] = ALPHABET_BYTES[top / 58];
+        dst[off + 1] = ALPHABET_BYTES[top % 58];
+    }
+    
+    /**
+     * Digit variant of {@link #encodeTo(long, long, char[], int)}: writes the 22 Base58
+     * digit values (0-57) instead of their characters, for batch codecs that map
+     * digits to ASCII many at a time.
+     */
+    static void digitsTo(long msb, long lsb, byte[] dst, int off) {
+        long hi = msb;
+        long lo = lsb;
+        for (int end = off + 22; end > off + 2; end -= 5) {
+            long qHi = divideP5(0, hi);
+            long qLo = divideP5(hi - qHi * P5, lo);
+            int chunk = (int) (lo - qLo * P5);
+            hi = qHi;
+            lo = qLo;
+            for (int i = end - 1; i >= end - 5; i--) {
+                dst[i] = (byte) (chunk % 58);
+                chunk /= 58;
+            }
+        }
+        int top = (int) lo;
+        dst[off] = (byte) (top / 58);
+        dst[off + 1] = (byte) (top % 58);
+    }
+    
+    /**
+     * {@link StringBuilder} variant of {@link #encodeTo(long, long, char[], int)};
+     * the builder must already be at least {@code off + 22} characters long.
+     */
+    private static void encodeTo(long msb, long lsb, StringBuilder dst, int off) {
+        long hi = msb;
+        long lo = lsb;
+        for (int end = off + 22; end > off + 2; end -= 5) {
+            long qHi = divideP5(0, hi);
+            long qLo = divideP5(hi - qHi * P5, lo);
+            int chunk = (int) (lo - qLo * P5);
+            hi = qHi;
+            lo = qLo;
+            for (int i = end - 1; i >= end - 5; i--) {
+                dst.setCharAt(i, ALPHABET[chunk % 58]);
+                chunk /= 58;
+            }
+        }
+        int top = (int) lo;
+        dst.setCharAt(off, ALPHABET[top / 58]);
+        dst.setCharAt(off + 1, ALPHABET[top % 58]);
+    }
+    
+    /**
+     * {@link ByteBuffer} variant of {@link #encodeTo(long, long, char[], int)}, using
+     * absolute puts so that buffers without an accessible array need no staging copy.
+     */
+    private static void encodeTo(long msb, long lsb, ByteBuffer dst, int off) {
+        long hi = msb;
+        long lo = lsb;
+        for (int end = off + 22; end > off + 2; end -= 5) {
+            long qHi = divideP5(0, hi);
+            long qLo = divideP5(hi - qHi * P5, lo);
+            int chunk = (int) (lo - qLo * P5);
+            hi = qHi;
+            lo = qLo;
+            for (int i = end - 1; i >= end - 5; i--) {
+                dst.put(i, ALPHABET_BYTES[chunk % 58]);
+                chunk /= 58;
+            }
+        }
+        int top = (int) lo;
+        dst.put(off, ALPHABET_BYTES[top / 58]);
+        dst.put(off + 1, ALPHABET_BYTES[top % 58]);
+    }
+    
+    /**
+     * {@link CharBuffer} variant of {@link #encodeTo(long, long, ByteBuffer, int)}.
+     */
+    private static void encodeTo(long msb, long lsb, CharBuffer dst, int off) {
+        long hi = msb;
+        long lo = lsb;
+        for (int end = off + 22; end > off + 2; end -= 5) {
+            long qHi = divideP5(0, hi);
+            long qLo = divideP5(hi - qHi * P5, lo);
+            int chunk = (int) (lo - qLo * P5);
+            hi = qHi;
+            lo = qLo;
+            for (int i = end - 1; i >= end - 5; i--) {
+                dst.put(i, ALPHABET[chunk % 58]);
+                chunk /= 58;
+            }
+        }
+        int top = (int) lo;
+        dst.put(off, ALPHABET[top / 58]);
+        dst.put(off + 1, ALPHABET[top % 58]);
+    }
+    
+    /**
+     * Appends the 22 characters of a 128-bit value to {@code dst} in order, for
+     * targets that can only be written front to back.
+     * 
+     * The four five-digit chunks come out of the division least significant first,
+     * so they are held two to a long (each is below 58^5 &lt; 2^30) and then
+     * appended in reverse, each from its most significant digit.
+     */
+    private static void appendTo(long msb, long lsb, Appendable dst) throws IOException {
+        long hi = msb;
+        long lo = lsb;
+        long tail = 0;
+        long middle = 0;
+        for (int round = 0; round < 4; round++) {
+            long qHi = divideP5(0, hi);
+            long qLo = divideP5(hi - qHi * P5, lo);
+            long chunk = lo - qLo * P5;
+            hi = qHi;
+            lo = qLo;
+            if (round < 2) {
+                tail |= chunk << (32 * round);
+            } else {
+                middle |= chunk << (32 * (round - 2));
+            }
+        }
+        int top = (int) lo;
+        dst.append(ALPHABET[top / 58]);
+        dst.append(ALPHABET[top % 58]);
+        appendChunk((int) (middle >>> 32), dst);
+        appendChunk((int) middle, dst);
+        appendChunk((int) (tail >>> 32), dst);
+        appendChunk((int) tail, dst);
+    }
+    
+    /**
+     * Appends the five Base58 digits of {@code chunk} (below 58^5), most significant first.
+     */
+    private static void appendChunk(int chunk, Appendable dst) throws IOException {
+        for (int scale = 58 * 58 * 58 * 58; scale > 0; scale /= 58) {
+            dst.append(ALPHABET[chunk / scale]);
+            chunk %= scale;
+        }
+    }
+    
+    /**
+     * Wraps ASCII bytes in a string with a single copy. With compact strings (JDK 9+)
+     * this constructor stores the bytes as a Latin-1 string directly, skipping both
+     * the {@code char[]} and the compression scan of {@code new String(char[])}; on
+     * JDK 8 it widens them once into the string's {@code char[]}.
+     */
+    @SuppressWarnings("deprecation")
+    private static String asciiString(byte[] ascii) {
+        return new String(ascii, 0, 0, ascii.length);
+    }
+    
+    /**
+     * Writes the 36-character canonical form of a UUID to {@code dst} at {@code off},
+     * one table lookup per byte.
+     */
+    private static void formatTo(long msb, long lsb, char[] dst, int off) {
+        for (int i = 0; i < 8; i++) {
+            int shift = 56 - 8 * i;
+            int hi = (int) (msb >>> shift) & 0xFF;
+            int lo = (int) (lsb >>> shift) & 0xFF;
+            int at = off + HEX_OFFSETS[i];
+            dst[at] = HEX_PAIRS[2 * hi];
+            dst[at + 1] = HEX_PAIRS[2 * hi + 1];
+            at = off + HEX_OFFSETS[i + 8];
+            dst[at] = HEX_PAIRS[2 * lo];
+            dst[at + 1] = HEX_PAIRS[2 * lo + 1];
+        }
+        dst[off + 8] = '-';
+        dst[off + 13] = '-';
+        dst[off + 18] = '-';
+        dst[off + 23] = '-';
+    }
+    
+    /**
+     * ASCII variant of {@link #formatTo(long, long, char[], int)}.
+     */
+    private static void formatTo(long msb, long lsb, byte[] dst, int off) {
+        for (int i = 0; i < 8; i++) {
+            int shift = 56 - 8 * i;
+            int hi = (int) (msb >>> shift) & 0xFF;
+            int lo = (int) (lsb >>> shift) & 0xFF;
+            int at = off + HEX_OFFSETS[i];
+            dst[at] = (byte) HEX_PAIRS[2 * hi];
+            dst[at + 1] = (byte) HEX_PAIRS[2 * hi + 1];
+            at = off + HEX_OFFSETS[i + 8];
+            dst[at] = (byte) HEX_PAIRS[2 * lo];
+            dst[at + 1] = (byte) HEX_PAIRS[2 * lo + 1];
+        }
+        dst[off + 8] = '-';
+        dst[off + 13] = '-';
+        dst[off + 18] = '-';
+        dst[off + 23] = '-';
+    }
+    
+    /**
+     * Validates that 22 elements fit in an array of the given length at {@code offset}.
+     */
+    private static void checkRange(int length, int offset) {
+        checkRange(length, offset, 22);
+    }
+    
+    /**
+     * Validates that {@code count} elements fit in an array of the given length at {@code offset}.
+     */
+    private static void checkRange(int length, int offset, int count) {
+        if (offset < 0 || offset > length - count) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot fit %d characters at offset %d in array of length %d", count, offset, length));
+        }
+    }
+    
+    /**
+     * Divides the 128-bit value {@code rem * 2^64 + x} by 58^5 and returns the
+     * quotient, which must fit in 64 bits (guaranteed when {@code rem < 58^5}).
+     * Works on 32-bit halves so every intermediate fits in a signed long.
+     */
+    private static long divideP5(long rem, long x) {
+        long t = (rem << 32) | (x >>> 32);
+        long q = t / P5;
+        t = ((t - q * P5) << 32) | (x & LOW_32);
+        return (q << 32) | (t / P5);
+    }
+    
+    /**
+     * Validates that a Base58 string has the encoded UUID length.
+     */
+    private static void checkLength(CharSequence b58) throws B58UUIDException {
+        if (b58 == null || b58.length() == 0) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_BASE58, "Empty Base58 string");
+        }
+        
+        // Validate length - should be 22 characters for 16-byte UUID
+        if (b58.length() != 22) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_BASE58, 
+                "Invalid Base58 length: expected 22, got %d", b58.length());
+        }
+    }
+    
+    /**
+     * Validates a row range against two bit columns.
+     */
+    static void checkRows(long[] msb, long[] lsb, int from, int to) {
+        if (from < 0 || from > to || to > msb.length || to > lsb.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Rows [%d, %d) out of range for columns of length %d and %d", 
+                    from, to, msb.length, lsb.length));
+        }
+    }
+    
+    /**
+     * Validates that 22 symbols are available from {@code start} in a source of
+     * the given length.
+     */
+    private static void checkAvailable(int length, int start) throws B58UUIDException {
+        if (start < 0 || start > length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Start index %d out of range for length %d", start, length));
+        }
+        if (length - start < 22) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.INVALID_BASE58, 
+                "Invalid Base58 length: expected 22, got %d", length - start);
+        }
+    }
+    
+    /**
+     * Accumulates the Base58 digits in {@code [start, end)} into a long.
+     * At most ten digits may be requested.
+     * 
+     * @return The chunk value, or -1 if any character is outside the alphabet
+     */
+    private static long digits(CharSequence src, int start, int end) {
+        long value = 0;
+        int invalid = 0;
+        for (int i = start; i < end; i++) {
+            char ch = src.charAt(i);
+            int digit = ch < 256 ? REVERSE_ALPHABET[ch] : -1;
+            invalid |= digit;
+            value = value * 58 + digit;
+        }
+        return invalid < 0 ? -1 : value;
+    }
+    
+    /**
+     * ASCII variant of {@link #digits(CharSequence, int, int)}.
+     */
+    private static long digits(byte[] src, int start, int end) {
+        long value = 0;
+        int invalid = 0;
+        for (int i = start; i < end; i++) {
+            int digit = REVERSE_ALPHABET[src[i] & 0xFF];
+            invalid |= digit;
+            value = value * 58 + digit;
+        }
+        return invalid < 0 ? -1 : value;
+    }
+    
+    /**
+     * {@link ByteBuffer} variant of {@link #digits(CharSequence, int, int)}, using absolute reads.
+     */
+    private static long digits(ByteBuffer src, int start, int end) {
+        long value = 0;
+        int invalid = 0;
+        for (int i = start; i < end; i++) {
+            int digit = REVERSE_ALPHABET[src.get(i) & 0xFF];
+            invalid |= digit;
+            value = value * 58 + digit;
+        }
+        return invalid < 0 ? -1 : value;
+    }
+    
+    /**
+     * MurmurHash3's 64-bit finalizer.
+     */
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+    
+    /**
+     * Jump consistent hash: maps {@code key} to a bucket in {@code [0, buckets)}.
+     */
+    private static int jumpConsistentHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+    
+    /**
+     * Returns the value of a hex digit (either case), or -1 for any other character.
+     */
+    private static int hexDigit(char ch) {
+        return ch < 128 ? HEX_VALUES[ch] : -1;
+    }
+    
+    /**
+     * Returns the index of the first character after the wrapper of a UUID string:
+     * 1 inside braces ({@code {...}}, 38 characters), 9 after {@code urn:uuid:}
+     * (45 characters, prefix case-insensitive), otherwise 0.
+     */
+    private static int hexStart(CharSequence uuid) {
+        int length = uuid.length();
+        if (length == 38 && uuid.charAt(0) == '{' && uuid.charAt(37) == '}') {
+            return 1;
+        }
+        if (length == 45) {
+            for (int i = 0; i < 9; i++) {
+                if (Character.toLowerCase(uuid.charAt(i)) != URN_PREFIX.charAt(i)) {
+                    return 0;
+                }
+            }
+            return 9;
+        }
+        return 0;
+    }
+    
+    /**
+     * Returns the index just past the hex part of a UUID string whose hex part
+     * starts at {@code start}, as returned by {@link #hexStart}.
+     */
+    private static int hexEnd(CharSequence uuid, int start) {
+        return start == 1 ? uuid.length() - 1 : uuid.length();
+    }
+    
+    /**
+     * Parses the hex digits in {@code [start, end)}, at most 15 of them, or returns
+     * -1 if any is not a hex digit.
+     */
+    private static long hexBits(CharSequence s, int start, int end) {
+        long value = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            int digit = hexDigit(s.charAt(i));
+            digits |= digit;
+            value = (value << 4) | (digit & 0xF);
+        }
+        return digits < 0 ? -1 : value;
+    }
+    
+    /**
+     * Builds the exception for the first character outside the alphabet in the
+     * 22 characters starting at {@code start}. Positions are reported relative
+     * to {@code start}.
+     */
+    private static B58UUIDException invalidCharacter(CharSequence src, int start) {
+        int i = invalidPosition(src, start);
+        return B58UUIDException.create(B58UUIDException.ErrorType.INVALID_BASE58, 
+            "Invalid character at position %d: %c", i, src.charAt(start + i));
+    }
+    
+    /**
+     * Returns the position, relative to {@code start}, of the first character outside
+     * the alphabet, or 21 if none of the first 21 characters is invalid.
+     */
+    private static int invalidPosition(CharSequence src, int start) {
+        int i = 0;
+        while (i < 21 && src.charAt(start + i) < 256 && REVERSE_ALPHABET[src.charAt(start + i)] != -1) {
+            i++;
+        }
+        return i;
+    }
+    
+    /**
+     * ASCII variant of {@link #invalidCharacter(CharSequence, int)}.
+     */
+    private static B58UUIDException invalidCharacter(byte[] src, int start) {
+        int i = 0;
+        while (i < 21 && REVERSE_ALPHABET[src[start + i] & 0xFF] != -1) {
+            i++;
+        }
+        return B58UUIDException.create(B58UUIDException.ErrorType.INVALID_BASE58, 
+            "Invalid character at position %d: %c", i, (char) (src[start + i] & 0xFF));
+    }
+    
+    /**
+     * {@link ByteBuffer} variant of {@link #invalidCharacter(CharSequence, int)}.
+     */
+    private static B58UUIDException invalidCharacter(ByteBuffer src, int start) {
+        int i = 0;
+        while (i < 21 && REVERSE_ALPHABET[src.get(start + i) & 0xFF] != -1) {
+            i++;
+        }
+        return B58UUIDException.create(B58UUIDException.ErrorType.INVALID_BASE58, 
+            "Invalid character at position %d: %c", i, (char) (src.get(start + i) & 0xFF));
+    }
+    
+    /**
+     * Checks 22 in-range ASCII bytes as three overlapping big-endian words at
+     * offsets 0, 8 and 14: every byte in the alphabet, and the words together
+     * no greater than those of the largest valid string.
+     */
+    private static boolean isValidAt(byte[] src, int start) {
+        long w0 = Platform.readLong(src, start);
+        long w8 = Platform.readLong(src, start + 8);
+        long w14 = Platform.readLong(src, start + 14);
+        if ((alphabetMask(w0) & alphabetMask(w8) & alphabetMask(w14)) != SWAR_HIGH) {
+            return false;
+        }
+        // Valid bytes are below 0x80, so the words compare correctly as signed longs
+        return w0 < MAX_WORD_0 || (w0 == MAX_WORD_0 
+            && (w8 < MAX_WORD_8 || (w8 == MAX_WORD_8 && w14 <= MAX_WORD_14)));
+    }
+    
+    /**
+     * Returns a word with the high bit of each byte set where the corresponding byte
+     * of {@code w} is in the Base58 alphabet ({@code 1-9}, {@code A-H}, {@code J-N},
+     * {@code P-Z}, {@code a-k}, {@code m-z}) and clear everywhere else.
+     * 
+     * {@code ge(n)} sets the high bit of each byte that is at least {@code n}: with
+     * the high bit forced on, subtracting {@code n < 0x80} cannot borrow from the
+     * next byte, and the bit survives exactly when the low seven bits are at least
+     * {@code n}. Bytes of 0x80 and above are masked out at the end.
+     */
+    private static long alphabetMask(long w) {
+        long x = w | SWAR_HIGH;
+        long ge31 = x - 0x31 * SWAR_ONES;
+        long ge3A = x - 0x3A * SWAR_ONES;
+        long ge41 = x - 0x41 * SWAR_ONES;
+        long ge49 = x - 0x49 * SWAR_ONES;
+        long ge4A = x - 0x4A * SWAR_ONES;
+        long ge4F = x - 0x4F * SWAR_ONES;
+        long ge50 = x - 0x50 * SWAR_ONES;
+        long ge5B = x - 0x5B * SWAR_ONES;
+        long ge61 = x - 0x61 * SWAR_ONES;
+        long ge6C = x - 0x6C * SWAR_ONES;
+        long ge6D = x - 0x6D * SWAR_ONES;
+        long ge7B = x - 0x7B * SWAR_ONES;
+        long inAlphabet = (ge31 & ~ge3A) | (ge41 & ~ge49) | (ge4A & ~ge4F)
+            | (ge50 & ~ge5B) | (ge61 & ~ge6C) | (ge6D & ~ge7B);
+        return inAlphabet & ~w & SWAR_HIGH;
+    }
+    
+    /**
+     * Rejects decoder chunks whose value does not fit in 128 bits. Overflow is
+     * checked once, on the whole value, rather than after every digit.
+     */
+    private static void checkOverflow(long head, long middle, long tail) throws B58UUIDException {
+        if (exceedsMax(head, middle, tail)) {
+            throw B58UUIDException.create(B58UUIDException.ErrorType.OVERFLOW, 
+                "Decoded value exceeds maximum UUID value (2^128 - 1)");
+        }
+    }
+    
+    static boolean exceedsMax(long head, long middle, long tail) {
+        return head > MAX_HEAD || (head == MAX_HEAD 
+            && (middle > MAX_MIDDLE || (middle == MAX_MIDDLE && tail > MAX_TAIL)));
+    }
+    
+    /**
+     * Packs an error type and character position into a {@link #tryDecode} status.
+     */
+    private static int status(B58UUIDException.ErrorType errorType, int position) {
+        return ((position + 1) << 8) | (errorType.ordinal() + 1);
+    }
+    
+    /**
+     * Returns the most significant 64 bits of {@code (head * 58^10 + middle) * 58^10 + tail}.
+     * The chunks must already have passed {@link #checkOverflow}.
+     */
+    static long high(long head, long middle, long tail) {
+        long midLo = head * P10 + middle;
+        long midHi = Platform.unsignedMultiplyHigh(head, P10) + (Long.compareUnsigned(midLo, middle) < 0 ? 1 : 0);
+        long lo = midLo * P10 + tail;
+        return midHi * P10 + Platform.unsignedMultiplyHigh(midLo, P10) + (Long.compareUnsigned(lo, tail) < 0 ? 1 : 0);
+    }
+    
+    /**
+     * Returns the least significant 64 bits of {@code (head * 58^10 + middle) * 58^10 + tail}.
+     */
+    static long low(long head, long middle, long tail) {
+        return (head * P10 + middle) * P10 + tail;
     }
 }
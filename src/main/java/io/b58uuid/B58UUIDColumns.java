@@ -0,0 +1,111 @@
+package io.b58uuid;
+
+/**
+ * Column-at-a-time encoding, decoding and validation of packed ASCII ids, with the
+ * same contracts as {@link B58UUID#encodeAll}, {@link B58UUID#decodeAll} and
+ * {@link B58UUID#validateAll}.
+ *
+ * <p>On Java 21 and later, when the {@code jdk.incubator.vector} module is added
+ * ({@code --add-modules jdk.incubator.vector}), these methods validate and translate
+ * the ASCII bytes many lanes per instruction with the Vector API, leaving only the
+ * 128-bit arithmetic to scalar code. Everywhere else they run the scalar
+ * {@link B58UUID} methods. Results, exceptions and messages are the same either
+ * way; {@link #isVectorized()} reports which path is in use.</p>
+ *
+ * <p>Setting the system property {@value #VECTOR_DISABLED_PROPERTY} to {@code true}
+ * forces the scalar path.</p>
+ */
+public final class B58UUIDColumns {
+    
+    /**
+     * System property that, when {@code true}, keeps the Vector API path from loading.
+     * Read once, on first use of this class.
+     */
+    public static final String VECTOR_DISABLED_PROPERTY = "b58uuid.vector.disabled";
+    
+    private B58UUIDColumns() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+    
+    /**
+     * Returns whether the Vector API path is in use on this runtime.
+     *
+     * @return true if the column methods are vectorized
+     */
+    public static boolean isVectorized() {
+        return BatchCodec.INSTANCE.isVectorized();
+    }
+    
+    /**
+     * Encodes rows {@code [from, to)} of two bit columns into one ASCII buffer,
+     * 22 bytes per id with no separators, starting at {@code offset}.
+     * See {@link B58UUID#encodeAll}.
+     *
+     * @param msb The most significant 64 bits of each UUID
+     * @param lsb The least significant 64 bits of each UUID
+     * @param from The first row to encode (inclusive)
+     * @param to The last row to encode (exclusive)
+     * @param out The destination buffer
+     * @param offset The index in {@code out} of the first byte to write
+     * @return The index just past the last byte written
+     * @throws IndexOutOfBoundsException if the rows are outside either column or
+     *         the output does not fit in {@code out}
+     */
+    public static int encode(long[] msb, long[] lsb, int from, int to, byte[] out, int offset) {
+        B58UUID.checkRows(msb, lsb, from, to);
+        if (offset < 0 || (long) offset + 22L * (to - from) > out.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot fit %d ids at offset %d in array of length %d", to - from, offset, out.length));
+        }
+        
+        return BatchCodec.INSTANCE.encode(msb, lsb, from, to, out, offset);
+    }
+    
+    /**
+     * Decodes consecutive 22-byte ASCII ids starting at {@code offset} into rows
+     * {@code [from, to)} of two bit columns. See {@link B58UUID#decodeAll}.
+     *
+     * @param ascii The buffer holding the encoded ids back to back
+     * @param offset The index in {@code ascii} of the first id
+     * @param msb The column receiving the most significant 64 bits of each UUID
+     * @param lsb The column receiving the least significant 64 bits of each UUID
+     * @param from The first row to fill (inclusive)
+     * @param to The last row to fill (exclusive)
+     * @return The index in {@code ascii} just past the last id read
+     * @throws B58UUIDException if an id is invalid; the message names its row, and
+     *         all earlier rows have been filled
+     * @throws IndexOutOfBoundsException if the rows are outside either column or
+     *         the input holds fewer than {@code to - from} ids
+     */
+    public static int decode(byte[] ascii, int offset, long[] msb, long[] lsb, int from, int to) 
+            throws B58UUIDException {
+        B58UUID.checkRows(msb, lsb, from, to);
+        if (offset < 0 || (long) offset + 22L * (to - from) > ascii.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot read %d ids at offset %d from array of length %d", to - from, offset, ascii.length));
+        }
+        
+        return BatchCodec.INSTANCE.decode(ascii, offset, msb, lsb, from, to);
+    }
+    
+    /**
+     * Checks consecutive 22-byte ASCII ids starting at {@code offset} and returns the
+     * first invalid one. See {@link B58UUID#validateAll}.
+     *
+     * @param ascii The buffer holding the encoded ids back to back
+     * @param offset The index in {@code ascii} of the first id
+     * @param count The number of ids to check
+     * @return The index (0 to {@code count - 1}) of the first invalid id, or -1 if all are valid
+     * @throws IllegalArgumentException if {@code count} is negative
+     * @throws IndexOutOfBoundsException if the input holds fewer than {@code count} ids
+     */
+    public static int validate(byte[] ascii, int offset, int count) {
+        B58UUID.checkCount(count);
+        if (offset < 0 || (long) offset + 22L * count > ascii.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot read %d ids at offset %d from array of length %d", count, offset, ascii.length));
+        }
+        
+        return BatchCodec.INSTANCE.validate(ascii, offset, count);
+    }
+}
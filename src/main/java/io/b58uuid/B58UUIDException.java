@@ -3,9 +3,24 @@ package io.b58uuid;
 /**
  * Custom exception class for b58uuid operations.
  * Provides detailed error information for encoding/decoding failures.
+ * 
+ * <p>Exceptions thrown by {@link B58UUID} format their message on first use of
+ * {@link #getMessage()} or {@link #getDetails()} rather than when they are thrown.
+ * Setting the system property {@value #LIGHTWEIGHT_PROPERTY} to {@code true}
+ * additionally makes them skip stack trace capture, for services that reject
+ * large volumes of invalid input and only inspect {@link #getErrorType()}. In that
+ * mode their cause is fixed when they are created, so {@link #initCause} throws
+ * {@link IllegalStateException}; by default it works as for any new exception.</p>
  */
 public class B58UUIDException extends Exception {
     
+    /**
+     * System property that enables stackless exceptions for errors raised by {@link B58UUID}.
+     */
+    public static final String LIGHTWEIGHT_PROPERTY = "b58uuid.lightweightExceptions";
+    
+    private static final boolean LIGHTWEIGHT = Boolean.getBoolean(LIGHTWEIGHT_PROPERTY);
+    
     /**
      * Exception type enumeration for different error scenarios.
      */
@@ -29,7 +44,15 @@ public class B58UUIDException extends Exception {
     }
     
     private final ErrorType errorType;
-    private final String details;
+    private String details;
+    
+    // Message template and arguments for lazily formatted exceptions
+    private final String template;
+    private final int value;
+    private final char character;
+    
+    // Failure of one row in a batch, whose details complete the message
+    private final B58UUIDException rowFailure;
     
     /**
      * Creates a new B58UUIDException with the specified error type and message.
@@ -41,6 +64,10 @@ public class B58UUIDException extends Exception {
         super(message);
         this.errorType = errorType;
         this.details = message;
+        this.template = null;
+        this.value = 0;
+        this.character = 0;
+        this.rowFailure = null;
     }
     
     /**
@@ -54,6 +81,80 @@ public class B58UUIDException extends Exception {
         super(message, cause);
         this.errorType = errorType;
         this.details = message;
+        this.template = null;
+        this.value = 0;
+        this.character = 0;
+        this.rowFailure = null;
+    }
+    
+    /**
+     * Creates an exception whose message is {@code String.format(template, value, character)},
+     * formatted on first access. Goes through {@link Exception#Exception(String)} so the
+     * cause is left unset and {@link #initCause} still works.
+     */
+    private B58UUIDException(ErrorType errorType, String template, int value, char character) {
+        super((String) null);
+        this.errorType = errorType;
+        this.template = template;
+        this.value = value;
+        this.character = character;
+        this.rowFailure = null;
+    }
+    
+    /**
+     * Variant of {@link #B58UUIDException(ErrorType, String, int, char)} with a fixed
+     * cause, skipping stack trace capture when {@code lightweight} is set; the only
+     * constructor that can skip it also fixes the cause. A non-null {@code rowFailure}
+     * supplies the second format argument in place of {@code character}.
+     */
+    private B58UUIDException(ErrorType errorType, String template, int value, char character, 
+            B58UUIDException rowFailure, boolean lightweight) {
+        super(null, rowFailure, !lightweight, !lightweight);
+        this.errorType = errorType;
+        this.template = template;
+        this.value = value;
+        this.character = character;
+        this.rowFailure = rowFailure;
+    }
+    
+    /**
+     * Creates a lazily formatted exception in the configured mode.
+     */
+    private static B58UUIDException lazy(ErrorType errorType, String template, int value, char character) {
+        return LIGHTWEIGHT 
+            ? new B58UUIDException(errorType, template, value, character, null, true)
+            : new B58UUIDException(errorType, template, value, character);
+    }
+    
+    /**
+     * Creates an exception with a fixed message.
+     */
+    static B58UUIDException create(ErrorType errorType, String message) {
+        B58UUIDException exception = lazy(errorType, null, 0, '\0');
+        exception.details = message;
+        return exception;
+    }
+    
+    /**
+     * Creates an exception whose message formats one integer argument, such as a length.
+     */
+    static B58UUIDException create(ErrorType errorType, String template, int value) {
+        return lazy(errorType, template, value, '\0');
+    }
+    
+    /**
+     * Creates an exception whose message formats a position and the character found there.
+     */
+    static B58UUIDException create(ErrorType errorType, String template, int position, char character) {
+        return lazy(errorType, template, position, character);
+    }
+    
+    /**
+     * Creates an exception for the failure of one row in a batch, with the same error
+     * type as {@code cause}. The message formats the row and the cause's details.
+     */
+    static B58UUIDException create(String template, int row, B58UUIDException cause) {
+        return new B58UUIDException(cause.errorType, template, row, '\0', cause, LIGHTWEIGHT);
     }
     
     /**
@@ -71,7 +172,19 @@ public class B58UUIDException extends Exception {
      * @return The error details
      */
     public String getDetails() {
-        return details;
+        String result = details;
+        if (result == null && template != null) {
+            result = rowFailure != null 
+                ? String.format(template, value, rowFailure.getDetails()) 
+                : String.format(template, value, character);
+            details = result;
+        }
+        return result;
+    }
+    
+    @Override
+    public String getMessage() {
+        return getDetails();
     }
     
     @Override
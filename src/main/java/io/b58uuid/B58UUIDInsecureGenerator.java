@@ -0,0 +1,128 @@
+package io.b58uuid;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fast, seedable generator of version 4 UUIDs for test fixtures, synthetic data
+ * and load tests. <strong>Not cryptographically secure:</strong> the output is
+ * fully determined by the seed and can be predicted from a few observed ids.
+ * Never use it for identifiers that must be unguessable; use
+ * {@link B58UUID#generate()} instead.
+ *
+ * <p>Random bits come from a {@link SplittableRandom}. The same seed always yields
+ * the same sequence of ids, so data sets can be reproduced. Ids are encoded with
+ * {@link B58UUID#encode(long, long)} and carry the same version and variant bits
+ * as {@link B58UUID#generate()}.</p>
+ *
+ * <p>Instances are not thread-safe. Give each thread its own generator via
+ * {@link #split()}; split generators produce sequences independent of their parent.</p>
+ */
+public final class B58UUIDInsecureGenerator {
+    
+    private final SplittableRandom random;
+    
+    /**
+     * Creates a generator with the given seed.
+     *
+     * @param seed The seed; equal seeds produce equal sequences of ids
+     */
+    public B58UUIDInsecureGenerator(long seed) {
+        this(new SplittableRandom(seed));
+    }
+    
+    /**
+     * Creates a generator with a seed that is likely to differ between instances.
+     */
+    public B58UUIDInsecureGenerator() {
+        this(new SplittableRandom());
+    }
+    
+    private B58UUIDInsecureGenerator(SplittableRandom random) {
+        this.random = random;
+    }
+    
+    /**
+     * Returns a new generator for use by another thread. Its ids are independent
+     * of this generator's, and deterministic if this generator was seeded.
+     *
+     * @return A new generator
+     */
+    public B58UUIDInsecureGenerator split() {
+        return new B58UUIDInsecureGenerator(random.split());
+    }
+    
+    /**
+     * Generates a version 4 UUID and returns its Base58-encoded representation.
+     *
+     * @return A new Base58-encoded UUID
+     */
+    public String generate() {
+        return B58UUID.encode(B58UUID.version4(random.nextLong()), B58UUID.variant10(random.nextLong()));
+    }
+    
+    /**
+     * Generates {@code n} UUIDs as bit pairs, with the most significant bits of UUID
+     * {@code i} at {@code bits[offset + 2 * i]} and the least significant bits at
+     * {@code bits[offset + 2 * i + 1]}.
+     *
+     * @param n The number of UUIDs to generate
+     * @param bits The destination array
+     * @param offset The index at which to store the first most significant bits
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @throws IndexOutOfBoundsException if {@code 2 * n} longs do not fit at {@code offset}
+     */
+    public void generate(int n, long[] bits, int offset) {
+        B58UUID.checkCount(n);
+        if (offset < 0 || (long) offset + 2L * n > bits.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot fit %d ids at offset %d in array of length %d", n, offset, bits.length));
+        }
+        
+        for (int i = offset; i < offset + 2 * n; i += 2) {
+            bits[i] = B58UUID.version4(random.nextLong());
+            bits[i + 1] = B58UUID.variant10(random.nextLong());
+        }
+    }
+    
+    /**
+     * Generates {@code n} UUIDs into one ASCII buffer, 22 bytes per id with no
+     * separators, starting at {@code offset}.
+     *
+     * @param n The number of UUIDs to generate
+     * @param out The destination buffer
+     * @param offset The index in {@code out} of the first byte to write
+     * @return The index just past the last byte written
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @throws IndexOutOfBoundsException if the output does not fit in {@code out}
+     */
+    public int generate(int n, byte[] out, int offset) {
+        B58UUID.checkCount(n);
+        if (offset < 0 || (long) offset + 22L * n > out.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot fit %d ids at offset %d in array of length %d", n, offset, out.length));
+        }
+        
+        int position = offset;
+        for (int i = 0; i < n; i++) {
+            position = B58UUID.encode(B58UUID.version4(random.nextLong()), B58UUID.variant10(random.nextLong()), 
+                out, position);
+        }
+        return position;
+    }
+    
+    /**
+     * Generates {@code n} UUIDs and returns their Base58 encodings.
+     *
+     * @param n The number of UUIDs to generate
+     * @return The Base58-encoded UUIDs
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public String[] generate(int n) {
+        B58UUID.checkCount(n);
+        String[] result = new String[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = generate();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,215 @@
+package io.b58uuid;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Opt-in generator that keeps random UUIDs ready ahead of demand, so that stalls of
+ * the underlying {@link java.security.SecureRandom} (reseeding, waiting on the OS
+ * entropy source) are absorbed by a background thread instead of the caller.
+ *
+ * <p>A daemon refill thread keeps a bounded ring of pre-generated UUID bits. When
+ * the number of ready ids falls below the low watermark, it refills the ring up to
+ * the high watermark in bulk. {@link #generate()} takes an id from the ring with
+ * a single compare-and-set and no locks, and falls back to {@link B58UUID#generate()}
+ * when the ring is empty. Hits and misses are counted.</p>
+ *
+ * <p>The ring holds raw bits rather than strings, so a ready id costs 16 bytes and
+ * the only work left to the caller is the encoding arithmetic. Ids are version 4
+ * UUIDs from the same random source as {@link B58UUID#generate()}.</p>
+ *
+ * <pre>{@code
+ * B58UUIDPool pool = new B58UUIDPool(1024, 8192);
+ * String id = pool.generate();
+ * }</pre>
+ */
+public final class B58UUIDPool implements AutoCloseable {
+    
+    /**
+     * How long the refill thread sleeps between checks when it is not woken up.
+     */
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    
+    /**
+     * Ids generated per bulk call while refilling.
+     */
+    private static final int REFILL_BATCH = 256;
+    
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final int mask;
+    
+    // Bits of slot i are at [2 * i, 2 * i + 1]
+    private final AtomicLongArray ring;
+    
+    // Index of the next id to take; advanced by consumers with compare-and-set
+    private final AtomicLong head = new AtomicLong();
+    
+    // Index of the next slot to fill; written only by the refill thread
+    private final AtomicLong tail = new AtomicLong();
+    
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Thread refiller;
+    private volatile boolean closed;
+    
+    /**
+     * Creates a pool and starts its refill thread, which fills the ring up to
+     * {@code highWatermark} ids right away.
+     *
+     * @param lowWatermark The number of ready ids below which the ring is refilled
+     * @param highWatermark The number of ready ids the ring is refilled to
+     * @throws IllegalArgumentException unless {@code 0 <= lowWatermark < highWatermark <= 2^24}
+     */
+    public B58UUIDPool(int lowWatermark, int highWatermark) {
+        if (lowWatermark < 0 || lowWatermark >= highWatermark || highWatermark > 1 << 24) {
+            throw new IllegalArgumentException(String.format(
+                "Watermarks must satisfy 0 <= low < high <= 2^24, got low %d and high %d", lowWatermark, highWatermark));
+        }
+        this.lowWatermark = lowWatermark;
+        this.highWatermark = highWatermark;
+        // Power of two >= highWatermark; the max keeps a high watermark of 1 from sizing it to 0
+        int capacity = Integer.highestOneBit(Math.max(1, highWatermark - 1)) << 1;
+        this.mask = capacity - 1;
+        this.ring = new AtomicLongArray(2 * capacity);
+        
+        this.refiller = new Thread(this::refillLoop, "b58uuid-pool-refill");
+        refiller.setDaemon(true);
+        refiller.start();
+    }
+    
+    /**
+     * Returns a Base58-encoded random UUID, taken from the pool if one is ready.
+     *
+     * @return A new Base58-encoded UUID
+     */
+    public String generate() {
+        long[] bits = new long[2];
+        generate(bits, 0);
+        return B58UUID.encode(bits[0], bits[1]);
+    }
+    
+    /**
+     * Stores the bits of a random UUID, taken from the pool if one is ready, at
+     * {@code bits[offset]} (most significant) and {@code bits[offset + 1]}.
+     *
+     * @param bits The destination array
+     * @param offset The index at which to store the most significant bits
+     */
+    public void generate(long[] bits, int offset) {
+        while (true) {
+            long h = head.get();
+            long ready = tail.get() - h;
+            if (ready <= 0) {
+                misses.increment();
+                B58UUID.generate(1, bits, offset);
+                wakeRefiller();
+                return;
+            }
+            int slot = (int) (h & mask) << 1;
+            long msb = ring.get(slot);
+            long lsb = ring.get(slot + 1);
+            // The slot is not reused until head moves past it, so a successful
+            // compare-and-set proves the bits were read before any refill
+            if (head.compareAndSet(h, h + 1)) {
+                bits[offset] = msb;
+                bits[offset + 1] = lsb;
+                hits.increment();
+                if (ready == lowWatermark) {
+                    wakeRefiller();
+                }
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Returns the number of ids currently ready in the pool.
+     *
+     * @return The number of ready ids
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+    
+    /**
+     * Returns how many ids were served from the pool.
+     *
+     * @return The number of pool hits
+     */
+    public long hits() {
+        return hits.sum();
+    }
+    
+    /**
+     * Returns how many ids were generated inline because the pool was empty.
+     *
+     * @return The number of pool misses
+     */
+    public long misses() {
+        return misses.sum();
+    }
+    
+    /**
+     * Returns the number of ready ids below which the pool is refilled.
+     *
+     * @return The low watermark
+     */
+    public int getLowWatermark() {
+        return lowWatermark;
+    }
+    
+    /**
+     * Returns the number of ready ids the pool is refilled to.
+     *
+     * @return The high watermark
+     */
+    public int getHighWatermark() {
+        return highWatermark;
+    }
+    
+    /**
+     * Stops the refill thread. Ids already in the pool are still handed out;
+     * after that every call generates inline.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(refiller);
+    }
+    
+    private void wakeRefiller() {
+        if (!closed) {
+            LockSupport.unpark(refiller);
+        }
+    }
+    
+    private void refillLoop() {
+        long[] batch = new long[2 * REFILL_BATCH];
+        while (!closed) {
+            long t = tail.get();
+            long ready = t - head.get();
+            // With a low watermark of 0 the ring is refilled once it runs empty
+            if (ready >= lowWatermark && ready > 0) {
+                LockSupport.parkNanos(this, IDLE_NANOS);
+                continue;
+            }
+            while (!closed && ready < highWatermark) {
+                int count = (int) Math.min(REFILL_BATCH, highWatermark - ready);
+                B58UUID.generate(count, batch, 0);
+                for (int i = 0; i < count; i++) {
+                    int slot = (int) ((t + i) & mask) << 1;
+                    ring.lazySet(slot, batch[2 * i]);
+                    ring.lazySet(slot + 1, batch[2 * i + 1]);
+                }
+                t += count;
+                // Publishes the slots written above to consumers
+                tail.set(t);
+                ready = t - head.get();
+            }
+        }
+    }
+}
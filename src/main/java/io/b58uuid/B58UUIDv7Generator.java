@@ -0,0 +1,209 @@
+package io.b58uuid;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generator of time-ordered version 7 UUIDs (RFC 9562), returned in Base58.
+ *
+ * <p>Each id carries the Unix time in milliseconds in its top 48 bits, followed by
+ * a 16-bit counter split over the {@code rand_a} field and the top of {@code rand_b}
+ * (RFC 9562 section 6.2, method 1), and 58 random bits from the same
+ * {@link java.security.SecureRandom} source as {@link B58UUID#generate()}. The
+ * counter starts at a random value below 2^15 in each new millisecond and is
+ * incremented for every further id in that millisecond.</p>
+ *
+ * <p>Ids from one generator are strictly increasing, across all threads. Timestamp
+ * and counter are advanced together by a single compare-and-set, without locks.
+ * When the counter runs out within a millisecond, the timestamp is moved one
+ * millisecond ahead. When the clock goes backwards, the generator keeps counting
+ * from its last timestamp until the clock catches up.</p>
+ *
+ * <p>Because every encoding is exactly 22 characters and the Base58 alphabet is in
+ * ascending ASCII order, the strings sort in the same order as the ids, so they
+ * also sort by creation time when compared as plain strings.</p>
+ */
+public final class B58UUIDv7Generator {
+    
+    private static final int COUNTER_BITS = 16;
+    
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    
+    /**
+     * Counters start below 2^15, leaving at least 2^15 increments per millisecond
+     * before the timestamp has to be borrowed from the next one.
+     */
+    private static final long SEED_MASK = COUNTER_MASK >>> 1;
+    
+    private static final long RANDOM_MASK = (1L << 58) - 1;
+    
+    /**
+     * Ids generated per block by the bulk methods.
+     */
+    private static final int BLOCK = 256;
+    
+    private final LongSupplier clock;
+    
+    // (unixMillis << 16) | counter of the last id handed out
+    private final AtomicLong state = new AtomicLong();
+    
+    /**
+     * Creates a generator using the system clock.
+     */
+    public B58UUIDv7Generator() {
+        this(System::currentTimeMillis);
+    }
+    
+    /**
+     * Creates a generator using the given source of Unix time in milliseconds.
+     *
+     * @param clock The clock, returning milliseconds since 1970-01-01T00:00:00Z
+     */
+    public B58UUIDv7Generator(LongSupplier clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.clock = clock;
+    }
+    
+    /**
+     * Generates a version 7 UUID and returns its Base58-encoded representation.
+     *
+     * @return A new Base58-encoded UUID, greater than every id generated before it
+     */
+    public String generate() {
+        long[] bits = new long[2];
+        StripedSecureRandom.nextBits(bits, 0);
+        long first = reserve(1, bits[0]);
+        return B58UUID.encode(msb(first), lsb(first, bits[1]));
+    }
+    
+    /**
+     * Reserves {@code n} consecutive ids in one atomic step and stores them as bit
+     * pairs, with the most significant bits of id {@code i} at {@code bits[offset + 2 * i]}
+     * and the least significant bits at {@code bits[offset + 2 * i + 1]}. No other
+     * call on this generator can produce an id between the first and the last.
+     *
+     * @param n The number of UUIDs to generate
+     * @param bits The destination array
+     * @param offset The index at which to store the first most significant bits
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @throws IndexOutOfBoundsException if {@code 2 * n} longs do not fit at {@code offset}
+     */
+    public void generate(int n, long[] bits, int offset) {
+        B58UUID.checkCount(n);
+        if (offset < 0 || (long) offset + 2L * n > bits.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot fit %d ids at offset %d in array of length %d", n, offset, bits.length));
+        }
+        if (n == 0) {
+            return;
+        }
+        
+        // Fill with random bits first, then overwrite each msb with its reserved state
+        StripedSecureRandom.nextLongs(bits, offset, 2 * n);
+        long next = reserve(n, bits[offset]);
+        for (int i = offset; i < offset + 2 * n; i += 2) {
+            bits[i + 1] = lsb(next, bits[i + 1]);
+            bits[i] = msb(next);
+            next++;
+        }
+    }
+    
+    /**
+     * Reserves {@code n} consecutive ids in one atomic step and writes them into one
+     * ASCII buffer, 22 bytes per id with no separators, starting at {@code offset}.
+     *
+     * @param n The number of UUIDs to generate
+     * @param out The destination buffer
+     * @param offset The index in {@code out} of the first byte to write
+     * @return The index just past the last byte written
+     * @throws IllegalArgumentException if {@code n} is negative
+     * @throws IndexOutOfBoundsException if the output does not fit in {@code out}
+     */
+    public int generate(int n, byte[] out, int offset) {
+        B58UUID.checkCount(n);
+        if (offset < 0 || (long) offset + 22L * n > out.length) {
+            throw new IndexOutOfBoundsException(
+                String.format("Cannot fit %d ids at offset %d in array of length %d", n, offset, out.length));
+        }
+        if (n == 0) {
+            return offset;
+        }
+        
+        long next = reserve(n, StripedSecureRandom.nextLong());
+        long[] random = new long[Math.min(n, BLOCK)];
+        int position = offset;
+        for (int done = 0; done < n; done += random.length) {
+            int count = Math.min(n - done, random.length);
+            StripedSecureRandom.nextLongs(random, 0, count);
+            for (int i = 0; i < count; i++) {
+                position = B58UUID.encode(msb(next), lsb(next, random[i]), out, position);
+                next++;
+            }
+        }
+        return position;
+    }
+    
+    /**
+     * Reserves {@code n} consecutive ids in one atomic step and returns their
+     * Base58 encodings in ascending order.
+     *
+     * @param n The number of UUIDs to generate
+     * @return The Base58-encoded UUIDs
+     * @throws IllegalArgumentException if {@code n} is negative
+     */
+    public String[] generate(int n) {
+        B58UUID.checkCount(n);
+        String[] result = new String[n];
+        if (n == 0) {
+            return result;
+        }
+        
+        long next = reserve(n, StripedSecureRandom.nextLong());
+        long[] random = new long[Math.min(n, BLOCK)];
+        for (int done = 0; done < n; done += random.length) {
+            int count = Math.min(n - done, random.length);
+            StripedSecureRandom.nextLongs(random, 0, count);
+            for (int i = 0; i < count; i++) {
+                result[done + i] = B58UUID.encode(msb(next), lsb(next, random[i]));
+                next++;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Advances the state by {@code n} ids and returns the state of the first one.
+     * A new millisecond restarts the counter from {@code seed}; otherwise (same
+     * millisecond or clock regression) the ids follow the last one handed out.
+     */
+    private long reserve(int n, long seed) {
+        while (true) {
+            long current = state.get();
+            long now = clock.getAsLong();
+            long first = now > current >>> COUNTER_BITS
+                ? (now << COUNTER_BITS) | (seed & SEED_MASK)
+                : current + 1;
+            if (state.compareAndSet(current, first + n - 1)) {
+                return first;
+            }
+        }
+    }
+    
+    /**
+     * Returns the most significant bits for a state: 48-bit timestamp, version 7
+     * and the top 12 counter bits as {@code rand_a}.
+     */
+    private static long msb(long state) {
+        return (state & ~COUNTER_MASK) | 0x7000L | ((state & COUNTER_MASK) >>> 4);
+    }
+    
+    /**
+     * Returns the least significant bits for a state: variant 10, the low 4 counter
+     * bits and 58 random bits.
+     */
+    private static long lsb(long state, long random) {
+        return 0x8000000000000000L | ((state & 0xFL) << 58) | (random & RANDOM_MASK);
+    }
+}
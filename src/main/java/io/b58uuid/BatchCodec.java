@@ -0,0 +1,55 @@
+package io.b58uuid;
+
+/**
+ * Column codec behind {@link B58UUIDColumns}. This scalar implementation runs the
+ * {@link B58UUID} bulk methods; where the incubating Vector API is available, a
+ * subclass from the Java 21 layer of the multi-release JAR takes its place.
+ *
+ * Arguments are range-checked by {@link B58UUIDColumns} before they get here, and
+ * every implementation must return and throw exactly what the scalar one does.
+ */
+class BatchCodec {
+    
+    /**
+     * The codec used by {@link B58UUIDColumns}, chosen when this class is initialized.
+     */
+    static final BatchCodec INSTANCE = load();
+    
+    int encode(long[] msb, long[] lsb, int from, int to, byte[] out, int offset) {
+        return B58UUID.encodeAll(msb, lsb, from, to, out, offset);
+    }
+    
+    int decode(byte[] ascii, int offset, long[] msb, long[] lsb, int from, int to) throws B58UUIDException {
+        return B58UUID.decodeAll(ascii, offset, msb, lsb, from, to);
+    }
+    
+    int validate(byte[] ascii, int offset, int count) {
+        return B58UUID.validateAll(ascii, offset, count);
+    }
+    
+    boolean isVectorized() {
+        return false;
+    }
+    
+    /**
+     * Instantiates the vector codec if its class exists on this runtime, the
+     * {@code jdk.incubator.vector} module is present and the hardware vectors are
+     * wide enough ({@code VectorBatchCodec.isSupported()}), otherwise the scalar one.
+     * The vector class is looked up by name so the baseline never links against it.
+     */
+    private static BatchCodec load() {
+        if (Boolean.getBoolean(B58UUIDColumns.VECTOR_DISABLED_PROPERTY)) {
+            return new BatchCodec();
+        }
+        try {
+            Class<?> vector = Class.forName("io.b58uuid.VectorBatchCodec");
+            if (!(Boolean) vector.getDeclaredMethod("isSupported").invoke(null)) {
+                return new BatchCodec();
+            }
+            return (BatchCodec) vector.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Java 8 to 20, or the module was not added
+            return new BatchCodec();
+        }
+    }
+}
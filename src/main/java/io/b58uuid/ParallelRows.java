@@ -0,0 +1,166 @@
+package io.b58uuid;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Splits a row range into fixed-size chunks and runs them on a {@link ForkJoinPool}
+ * or any other {@link Executor}, for the parallel bulk methods of {@link B58UUID}.
+ *
+ * Chunk boundaries depend only on the range, never on the pool, and failures are
+ * reported from the lowest failing chunk. Since every chunk stops at its first bad
+ * row, that is the same row a sequential loop would have failed on.
+ */
+final class ParallelRows {
+    
+    /**
+     * Rows per chunk. 4096 rows of two longs plus 22 output bytes is about 150 KB,
+     * which stays within a typical per-core L2 cache.
+     */
+    static final int CHUNK_ROWS = 1 << 12;
+    
+    /**
+     * Ranges with fewer rows than this run sequentially on the calling thread.
+     */
+    static final int THRESHOLD = 1 << 14;
+    
+    /**
+     * Work applied to one chunk of rows.
+     */
+    interface RowTask {
+        void run(int from, int to) throws B58UUIDException;
+    }
+    
+    private ParallelRows() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+    
+    /**
+     * Runs {@code task} over rows {@code [from, to)} and waits for every chunk to finish.
+     *
+     * @return The exception thrown by the lowest failing chunk, or null if none failed
+     * @throws RuntimeException if a chunk threw one and no lower chunk failed
+     */
+    static B58UUIDException forEach(int from, int to, Executor executor, RowTask task) {
+        int rows = to - from;
+        if (rows < THRESHOLD || parallelism(executor) < 2) {
+            try {
+                task.run(from, to);
+                return null;
+            } catch (B58UUIDException e) {
+                return e;
+            }
+        }
+        
+        int chunks = (rows + CHUNK_ROWS - 1) / CHUNK_ROWS;
+        Throwable[] failures = new Throwable[chunks];
+        if (executor instanceof ForkJoinPool) {
+            ((ForkJoinPool) executor).invoke(new Split(task, from, to, 0, chunks, failures));
+        } else {
+            runOn(executor, task, from, to, chunks, failures);
+        }
+        
+        for (Throwable failure : failures) {
+            if (failure instanceof B58UUIDException) {
+                return (B58UUIDException) failure;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+        }
+        return null;
+    }
+    
+    private static int parallelism(Executor executor) {
+        return executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Integer.MAX_VALUE;
+    }
+    
+    /**
+     * Submits every chunk but the first to {@code executor}, runs the first on the
+     * calling thread and waits for the rest. Chunks the executor rejects also run
+     * on the calling thread. Interrupts are deferred until all chunks are done,
+     * because the chunks still write into the caller's arrays.
+     */
+    private static void runOn(Executor executor, RowTask task, int from, int to, int chunks, Throwable[] failures) {
+        CountDownLatch done = new CountDownLatch(chunks - 1);
+        for (int c = 1; c < chunks; c++) {
+            int chunk = c;
+            Runnable runnable = () -> {
+                try {
+                    runChunk(task, from, to, chunk, failures);
+                } finally {
+                    done.countDown();
+                }
+            };
+            try {
+                executor.execute(runnable);
+            } catch (RejectedExecutionException e) {
+                runnable.run();
+            }
+        }
+        runChunk(task, from, to, 0, failures);
+        
+        boolean interrupted = false;
+        while (true) {
+            try {
+                done.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static void runChunk(RowTask task, int from, int to, int chunk, Throwable[] failures) {
+        int start = from + chunk * CHUNK_ROWS;
+        try {
+            task.run(start, Math.min(to, start + CHUNK_ROWS));
+        } catch (Throwable t) {
+            failures[chunk] = t;
+        }
+    }
+    
+    /**
+     * Fork/join task that halves its chunk range until a single chunk is left.
+     */
+    private static final class Split extends RecursiveAction {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final transient RowTask task;
+        private final int from;
+        private final int to;
+        private final int lo;
+        private final int hi;
+        private final Throwable[] failures;
+        
+        Split(RowTask task, int from, int to, int lo, int hi, Throwable[] failures) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.lo = lo;
+            this.hi = hi;
+            this.failures = failures;
+        }
+        
+        @Override
+        protected void compute() {
+            if (hi - lo == 1) {
+                runChunk(task, from, to, lo, failures);
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new Split(task, from, to, lo, mid, failures),
+                new Split(task, from, to, mid, hi, failures));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.b58uuid;
+
+/**
+ * JDK-dependent primitives used by the codec and the generators.
+ *
+ * This is the Java 8 baseline. The multi-release JAR replaces this class on newer
+ * runtimes with the variants under {@code src/main/java9}, {@code src/main/java18}
+ * and {@code src/main/java21}, which must keep the same members and behavior.
+ */
+final class Platform {
+    
+    private static final long LOW_32 = 0xFFFFFFFFL;
+    
+    private Platform() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+    
+    /**
+     * Returns the feature release this variant of the class was written for. A method
+     * rather than a constant, so callers are not compiled against one variant's value.
+     */
+    static int release() {
+        return 8;
+    }
+    
+    /**
+     * Returns the upper 64 bits of the unsigned 128-bit product {@code x * y}.
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        long x0 = x & LOW_32;
+        long x1 = x >>> 32;
+        long y0 = y & LOW_32;
+        long y1 = y >>> 32;
+        long t = x1 * y0 + ((x0 * y0) >>> 32);
+        long w = (t & LOW_32) + x0 * y1;
+        return x1 * y1 + (t >>> 32) + (w >>> 32);
+    }
+    
+    /**
+     * Reads eight bytes starting at {@code off} as a big-endian long.
+     */
+    static long readLong(byte[] data, int off) {
+        long value = 0;
+        for (int i = off; i < off + 8; i++) {
+            value = (value << 8) | (data[i] & 0xFF);
+        }
+        return value;
+    }
+    
+    /**
+     * Writes {@code value} as eight big-endian bytes starting at {@code off}.
+     */
+    static void writeLong(byte[] data, int off, long value) {
+        for (int i = off + 7; i >= off; i--) {
+            data[i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+    
+    /**
+     * Returns the id of the current thread, which may be a virtual thread.
+     */
+    static long currentThreadId() {
+        return Thread.currentThread().getId();
+    }
+}
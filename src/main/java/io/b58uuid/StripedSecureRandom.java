@@ -0,0 +1,216 @@
+package io.b58uuid;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Source of random UUID bits for {@link B58UUID#generate()}, spread over several
+ * independently seeded {@link SecureRandom} instances.
+ *
+ * A single shared {@code SecureRandom} serializes every caller, since most
+ * providers synchronize in {@code nextBytes}. Here each thread starts at a stripe
+ * chosen from its id and moves to the next stripe if that one is busy. Each stripe
+ * draws {@value #BUFFER_BYTES} bytes at a time and hands them out 16 at a time.
+ * Stripes are guarded by {@link ReentrantLock} rather than {@code synchronized}
+ * so that virtual threads waiting for one do not pin their carrier thread.
+ *
+ * Nothing here is touched until the first id is generated, so code that only
+ * encodes or decodes never loads a {@code SecureRandom}. The algorithm and reseed
+ * interval come from {@link B58UUID#RANDOM_ALGORITHM_PROPERTY} and
+ * {@link B58UUID#RANDOM_RESEED_PROPERTY}, read when this class is initialized.
+ */
+final class StripedSecureRandom {
+    
+    /**
+     * Bytes drawn from a stripe's {@code SecureRandom} per refill, enough for 32 UUIDs.
+     */
+    static final int BUFFER_BYTES = 512;
+    
+    /**
+     * Bytes drawn per {@code nextBytes} call by {@link #nextLongs}, enough for 512 UUIDs.
+     */
+    static final int BULK_BYTES = 8192;
+    
+    /**
+     * {@code SecureRandom} algorithm for new stripes, or null for the platform default.
+     */
+    private static final String ALGORITHM = System.getProperty(B58UUID.RANDOM_ALGORITHM_PROPERTY);
+    
+    /**
+     * Bytes a stripe's generator may produce before it is replaced by a freshly
+     * seeded one; 0 never replaces it.
+     */
+    private static final long RESEED_BYTES = Long.getLong(B58UUID.RANDOM_RESEED_PROPERTY, 0L);
+    
+    private static final Stripe[] STRIPES = new Stripe[stripeCount()];
+    
+    private static final int MASK = STRIPES.length - 1;
+    
+    static {
+        for (int i = 0; i < STRIPES.length; i++) {
+            STRIPES[i] = new Stripe();
+        }
+    }
+    
+    private StripedSecureRandom() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+    
+    /**
+     * Stores 128 random bits as two longs at {@code bits[offset]} and {@code bits[offset + 1]}.
+     */
+    static void nextBits(long[] bits, int offset) {
+        Stripe stripe = acquire();
+        try {
+            bits[offset] = stripe.nextLong();
+            bits[offset + 1] = stripe.nextLong();
+        } finally {
+            stripe.unlock();
+        }
+    }
+    
+    /**
+     * Returns 64 random bits.
+     */
+    static long nextLong() {
+        Stripe stripe = acquire();
+        try {
+            return stripe.nextLong();
+        } finally {
+            stripe.unlock();
+        }
+    }
+    
+    /**
+     * Stores {@code count} random longs in {@code dst} starting at {@code offset}, holding
+     * a single stripe for the whole request and drawing up to {@value #BULK_BYTES} bytes
+     * per {@code nextBytes} call.
+     */
+    static void nextLongs(long[] dst, int offset, int count) {
+        Stripe stripe = acquire();
+        try {
+            stripe.nextLongs(dst, offset, count);
+        } finally {
+            stripe.unlock();
+        }
+    }
+    
+    /**
+     * Locks the calling thread's home stripe, or the first free one after it.
+     * If every stripe is busy, waits for the home stripe.
+     */
+    private static Stripe acquire() {
+        int home = mix(Platform.currentThreadId());
+        for (int i = 0; i <= MASK; i++) {
+            Stripe stripe = STRIPES[(home + i) & MASK];
+            if (stripe.tryLock()) {
+                return stripe;
+            }
+        }
+        Stripe stripe = STRIPES[home & MASK];
+        stripe.lock();
+        return stripe;
+    }
+    
+    /**
+     * Spreads sequential thread ids (including virtual thread ids) across stripes.
+     */
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32);
+    }
+    
+    /**
+     * Twice the number of processors, rounded up to a power of two and capped at 256.
+     */
+    private static int stripeCount() {
+        int target = Math.min(256, Runtime.getRuntime().availableProcessors() * 2);
+        return Integer.highestOneBit(Math.max(1, target - 1)) << 1;
+    }
+    
+    /**
+     * Creates a self-seeding generator of the configured algorithm.
+     *
+     * @throws IllegalStateException if the configured algorithm is not available
+     */
+    private static SecureRandom newRandom() {
+        if (ALGORITHM == null) {
+            return new SecureRandom();
+        }
+        try {
+            return SecureRandom.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(String.format("SecureRandom algorithm %s set by %s is not available", 
+                ALGORITHM, B58UUID.RANDOM_ALGORITHM_PROPERTY), e);
+        }
+    }
+    
+    /**
+     * One {@code SecureRandom} and its buffer of unread bytes. The generator is created
+     * on the first refill, so stripes that are never used cost no seeding.
+     */
+    private static final class Stripe extends ReentrantLock {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private transient SecureRandom random;
+        private long drawn;
+        private final byte[] buffer = new byte[BUFFER_BYTES];
+        private int position = BUFFER_BYTES;
+        
+        /**
+         * Fills {@code bytes} from this stripe's generator, creating it on first use
+         * and replacing it once it has produced the configured reseed interval.
+         */
+        private void draw(byte[] bytes) {
+            if (random == null || (RESEED_BYTES > 0 && drawn >= RESEED_BYTES)) {
+                random = newRandom();
+                drawn = 0;
+            }
+            random.nextBytes(bytes);
+            drawn += bytes.length;
+        }
+        
+        /**
+         * Returns the next eight buffered bytes as a big-endian long. Must hold the lock.
+         */
+        long nextLong() {
+            if (position == BUFFER_BYTES) {
+                draw(buffer);
+                position = 0;
+            }
+            long value = Platform.readLong(buffer, position);
+            // Clear consumed bytes so handed-out ids cannot be read back from the heap
+            Arrays.fill(buffer, position, position + 8, (byte) 0);
+            position += 8;
+            return value;
+        }
+        
+        /**
+         * Serves {@code count} longs, first from the buffered bytes and then in
+         * blocks drawn straight from the generator. Must hold the lock.
+         */
+        void nextLongs(long[] dst, int offset, int count) {
+            int end = offset + count;
+            while (offset < end && position < BUFFER_BYTES) {
+                dst[offset++] = nextLong();
+            }
+            if (offset == end) {
+                return;
+            }
+            byte[] block = new byte[Math.min(end - offset, BULK_BYTES / 8) * 8];
+            while (offset < end) {
+                if (end - offset < block.length / 8) {
+                    block = new byte[(end - offset) * 8];
+                }
+                draw(block);
+                for (int i = 0; i < block.length; i += 8) {
+                    dst[offset++] = Platform.readLong(block, i);
+                }
+                Arrays.fill(block, (byte) 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package io.b58uuid;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link BatchCodec} using the incubating Vector API. Only present in the Java 21
+ * layer of the multi-release JAR, and only loaded when {@code jdk.incubator.vector}
+ * is in the module graph.
+ *
+ * The ASCII side is handled a whole vector of bytes at a time, ignoring id
+ * boundaries: alphabet checks are lane compares, and translation between
+ * characters and digit values adds or subtracts the gap before each alphabet range
+ * under a compare mask. The 128-bit arithmetic per id stays scalar. Whenever a
+ * block holds an invalid id, the scalar {@link B58UUID} method takes over from
+ * the start of that block, so errors are reported exactly as it reports them.
+ */
+final class VectorBatchCodec extends BatchCodec {
+    
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    
+    /**
+     * Ids per block: digits are staged in a buffer of this many ids and translated
+     * while still in cache.
+     */
+    private static final int BLOCK = 256;
+    
+    /**
+     * Returns whether this codec should replace the scalar one here. Without SIMD
+     * registers of at least 128 bits the lanes cannot beat the scalar table lookups.
+     */
+    static boolean isSupported() {
+        return SPECIES.vectorBitSize() >= 128;
+    }
+    
+    @Override
+    int encode(long[] msb, long[] lsb, int from, int to, byte[] out, int offset) {
+        int position = offset;
+        for (int start = from; start < to; start += BLOCK) {
+            int blockStart = position;
+            for (int i = start; i < Math.min(to, start + BLOCK); i++) {
+                B58UUID.digitsTo(msb[i], lsb[i], out, position);
+                position += 22;
+            }
+            // The digits were written in place; map them to characters in place
+            digitsToAscii(out, blockStart, position - blockStart);
+        }
+        return position;
+    }
+    
+    @Override
+    int decode(byte[] ascii, int offset, long[] msb, long[] lsb, int from, int to) throws B58UUIDException {
+        byte[] digits = new byte[22 * Math.min(to - from, BLOCK)];
+        int position = offset;
+        for (int start = from; start < to; start += BLOCK) {
+            int end = Math.min(to, start + BLOCK);
+            if (!asciiToDigits(ascii, position, digits, 22 * (end - start))) {
+                return B58UUID.decodeAll(ascii, position, msb, lsb, start, to);
+            }
+            for (int i = start, d = 0; i < end; i++, d += 22) {
+                long head = digits[d] * 58L + digits[d + 1];
+                long middle = chunk(digits, d + 2);
+                long tail = chunk(digits, d + 12);
+                if (B58UUID.exceedsMax(head, middle, tail)) {
+                    return B58UUID.decodeAll(ascii, position + d, msb, lsb, i, to);
+                }
+                msb[i] = B58UUID.high(head, middle, tail);
+                lsb[i] = B58UUID.low(head, middle, tail);
+            }
+            position += 22 * (end - start);
+        }
+        return position;
+    }
+    
+    @Override
+    int validate(byte[] ascii, int offset, int count) {
+        int length = 22 * count;
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        while (i < bound && inAlphabet(ByteVector.fromArray(SPECIES, ascii, offset + i)).allTrue()) {
+            i += SPECIES.length();
+        }
+        
+        // Rows entirely before i are in the alphabet; of those, only rows starting
+        // with 'Y' or above can exceed 2^128 - 1
+        int checked = i / 22;
+        for (int row = 0; row < checked; row++) {
+            int at = offset + 22 * row;
+            if (ascii[at] >= 'Y' && !B58UUID.isValid(ascii, at)) {
+                return row;
+            }
+        }
+        int rest = B58UUID.validateAll(ascii, offset + 22 * checked, count - checked);
+        return rest < 0 ? -1 : checked + rest;
+    }
+    
+    @Override
+    boolean isVectorized() {
+        return true;
+    }
+    
+    /**
+     * Replaces the digit values (0-57) in {@code buf[off, off + length)} with their
+     * Base58 characters. The tail shorter than a vector is done one byte at a time,
+     * since masked byte loads and stores are slow without AVX-512.
+     */
+    private static void digitsToAscii(byte[] buf, int off, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            ByteVector d = ByteVector.fromArray(SPECIES, buf, off + i);
+            d.add((byte) '1')
+                .add((byte) ('A' - '9' - 1), d.compare(VectorOperators.GE, (byte) 9))
+                .add((byte) ('J' - 'H' - 1), d.compare(VectorOperators.GE, (byte) 17))
+                .add((byte) ('P' - 'N' - 1), d.compare(VectorOperators.GE, (byte) 22))
+                .add((byte) ('a' - 'Z' - 1), d.compare(VectorOperators.GE, (byte) 33))
+                .add((byte) ('m' - 'k' - 1), d.compare(VectorOperators.GE, (byte) 44))
+                .intoArray(buf, off + i);
+        }
+        for (; i < length; i++) {
+            buf[off + i] = toAscii(buf[off + i]);
+        }
+    }
+    
+    /**
+     * Translates the characters in {@code src[off, off + length)} to digit values in
+     * {@code dst[0, length)}, with a scalar tail as in {@link #digitsToAscii}.
+     *
+     * @return false if any character is outside the alphabet
+     */
+    private static boolean asciiToDigits(byte[] src, int off, byte[] dst, int length) {
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            ByteVector c = ByteVector.fromArray(SPECIES, src, off + i);
+            if (!inAlphabet(c).allTrue()) {
+                return false;
+            }
+            c.sub((byte) '1')
+                .sub((byte) ('A' - '9' - 1), c.compare(VectorOperators.GE, (byte) 'A'))
+                .sub((byte) ('J' - 'H' - 1), c.compare(VectorOperators.GE, (byte) 'J'))
+                .sub((byte) ('P' - 'N' - 1), c.compare(VectorOperators.GE, (byte) 'P'))
+                .sub((byte) ('a' - 'Z' - 1), c.compare(VectorOperators.GE, (byte) 'a'))
+                .sub((byte) ('m' - 'k' - 1), c.compare(VectorOperators.GE, (byte) 'm'))
+                .intoArray(dst, i);
+        }
+        for (; i < length; i++) {
+            int digit = toDigit(src[off + i]);
+            if (digit < 0) {
+                return false;
+            }
+            dst[i] = (byte) digit;
+        }
+        return true;
+    }
+    
+    /**
+     * Scalar form of the lane arithmetic in {@link #digitsToAscii}.
+     */
+    private static byte toAscii(int d) {
+        int c = d + '1';
+        c += d >= 9 ? 'A' - '9' - 1 : 0;
+        c += d >= 17 ? 'J' - 'H' - 1 : 0;
+        c += d >= 22 ? 'P' - 'N' - 1 : 0;
+        c += d >= 33 ? 'a' - 'Z' - 1 : 0;
+        c += d >= 44 ? 'm' - 'k' - 1 : 0;
+        return (byte) c;
+    }
+    
+    /**
+     * Scalar form of the lane arithmetic in {@link #asciiToDigits}, or -1 if
+     * {@code c} is not a Base58 character.
+     */
+    private static int toDigit(byte c) {
+        boolean valid = (c >= '1' && c <= '9') || (c >= 'A' && c <= 'Z' && c != 'I' && c != 'O')
+            || (c >= 'a' && c <= 'z' && c != 'l');
+        if (!valid) {
+            return -1;
+        }
+        int d = c - '1';
+        d -= c >= 'A' ? 'A' - '9' - 1 : 0;
+        d -= c >= 'J' ? 'J' - 'H' - 1 : 0;
+        d -= c >= 'P' ? 'P' - 'N' - 1 : 0;
+        d -= c >= 'a' ? 'a' - 'Z' - 1 : 0;
+        d -= c >= 'm' ? 'm' - 'k' - 1 : 0;
+        return d;
+    }
+    
+    /**
+     * Returns the lanes holding a Base58 character. Bytes of 0x80 and above are
+     * negative and fail every lower bound.
+     */
+    private static VectorMask<Byte> inAlphabet(ByteVector c) {
+        VectorMask<Byte> digits = c.compare(VectorOperators.GE, (byte) '1')
+            .and(c.compare(VectorOperators.LE, (byte) '9'));
+        VectorMask<Byte> upper = c.compare(VectorOperators.GE, (byte) 'A')
+            .and(c.compare(VectorOperators.LE, (byte) 'Z'))
+            .andNot(c.compare(VectorOperators.EQ, (byte) 'I'))
+            .andNot(c.compare(VectorOperators.EQ, (byte) 'O'));
+        VectorMask<Byte> lower = c.compare(VectorOperators.GE, (byte) 'a')
+            .and(c.compare(VectorOperators.LE, (byte) 'z'))
+            .andNot(c.compare(VectorOperators.EQ, (byte) 'l'));
+        return digits.or(upper).or(lower);
+    }
+    
+    /**
+     * Accumulates ten digit values starting at {@code off} into a long.
+     */
+    private static long chunk(byte[] digits, int off) {
+        long value = 0;
+        for (int i = off; i < off + 10; i++) {
+            value = value * 58 + digits[i];
+        }
+        return value;
+    }
+}
@@ -0,0 +1,56 @@
+package io.b58uuid;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Java 9+ variant of the baseline {@code Platform}: 128-bit products come from the
+ * {@link Math#multiplyHigh} intrinsic, and longs are read and written as single
+ * big-endian accesses through a byte array view {@link VarHandle}.
+ */
+final class Platform {
+    
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    
+    private Platform() {
+        throw new AssertionError("Cannot instantiate utility class");
+    }
+    
+    /**
+     * Returns the feature release this variant of the class was written for. A method
+     * rather than a constant, so callers are not compiled against one variant's value.
+     */
+    static int release() {
+        return 9;
+    }
+    
+    /**
+     * Returns the upper 64 bits of the unsigned 128-bit product {@code x * y},
+     * correcting the signed product for operands with the top bit set.
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+    
+    /**
+     * Reads eight bytes starting at {@code off} as a big-endian long.
+     */
+    static long readLong(byte[] data, int off) {
+        return (long) LONGS.get(data, off);
+    }
+    
+    /**
+     * Writes {@code value} as eight big-endian bytes starting at {@code off}.
+     */
+    static void writeLong(byte[] data, int off, long value) {
+        LONGS.set(data, off, value);
+    }
+    
+    /**
+     * Returns the id of the current thread, which may be a virtual thread.
+     */
+    static long currentThreadId() {
+        return Thread.currentThread().getId();
+    }
+}
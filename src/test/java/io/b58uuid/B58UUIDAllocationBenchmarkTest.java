@@ -0,0 +1,65 @@
+package io.b58uuid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the bytes allocated per {@code encode} call, run with the GC
+ * profiler; compare the {@code gc.alloc.rate.norm} column. The {@code Chars}
+ * variants rebuild the former path (a fresh {@code char[22]} passed to
+ * {@code new String(char[])}) as the baseline.
+ * 
+ * Run with: mvn test-compile exec:java -Dexec.mainClass="io.b58uuid.B58UUIDAllocationBenchmarkTest" -Dexec.classpathScope=test
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class B58UUIDAllocationBenchmarkTest {
+    
+    private static final String TEST_STRING = "BWBeN28Vb7cMEx7Ym8AUzs";
+    
+    private long msb = 0x550e8400e29b41d4L;
+    private long lsb = 0xa716446655440000L;
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public String benchmarkEncode() {
+        return B58UUID.encode(msb, lsb);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public String benchmarkEncodeChars() {
+        char[] chars = new char[22];
+        B58UUID.encode(msb, lsb, chars, 0);
+        return new String(chars);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public String benchmarkDecodeToUuid() throws B58UUIDException {
+        return B58UUID.decodeToUUID(TEST_STRING);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public String benchmarkDecodeToUuidChars() throws B58UUIDException {
+        char[] chars = new char[36];
+        B58UUID.decodeToUUID(TEST_STRING, chars, 0);
+        return new String(chars);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(B58UUIDAllocationBenchmarkTest.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        
+        new Runner(opt).run();
+    }
+}
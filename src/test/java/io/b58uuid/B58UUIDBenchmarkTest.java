@@ -6,6 +6,8 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.util.Random;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -23,22 +25,220 @@ public class B58UUIDBenchmarkTest {
     
     private static final byte[] TEST_BYTES = hexToBytes("550e8400e29b41d4a716446655440000");
     private static final String TEST_STRING = "BWBeN28Vb7cMEx7Ym8AUzs";
+    private static final String INVALID_STRING = "BWBeN28Vb7cMEx0Ym8AUzs";
+    private static final UUID TEST_UUID = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+    
+    private static final int BATCH_SIZE = 1024;
+    
+    private final long[] bits = new long[2];
+    private final long[] batchMsb = new long[BATCH_SIZE];
+    private final long[] batchLsb = new long[BATCH_SIZE];
+    private final byte[] batchAscii = new byte[BATCH_SIZE * 22];
+    private final char[] chars = new char[22];
+    private final char[] hexChars = new char[36];
+    private final StringBuilder builder = new StringBuilder(64);
+    private final B58UUIDInsecureGenerator insecure = new B58UUIDInsecureGenerator(42);
     
     @org.openjdk.jmh.annotations.Benchmark
     public String benchmarkEncode() throws B58UUIDException {
         return B58UUID.encode(TEST_BYTES);
     }
     
+    @org.openjdk.jmh.annotations.Benchmark
+    public String benchmarkEncodeLegacy() {
+        return legacyEncode(TEST_BYTES);
+    }
+    
     @org.openjdk.jmh.annotations.Benchmark
     public byte[] benchmarkDecode() throws B58UUIDException {
         return B58UUID.decode(TEST_STRING);
     }
     
+    @org.openjdk.jmh.annotations.Benchmark
+    public byte[] benchmarkDecodeLegacy() {
+        return legacyDecode(TEST_STRING);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public long[] benchmarkDecodeBits() throws B58UUIDException {
+        B58UUID.decodeBits(TEST_STRING, bits, 0);
+        return bits;
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public String benchmarkEncodeJavaUuid() throws B58UUIDException {
+        return B58UUID.encode(TEST_UUID);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public UUID benchmarkDecodeToJavaUuid() throws B58UUIDException {
+        return B58UUID.decodeToJavaUUID(TEST_STRING);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public char[] benchmarkEncodeIntoCharArray() {
+        B58UUID.encode(TEST_UUID.getMostSignificantBits(), TEST_UUID.getLeastSignificantBits(), chars, 0);
+        return chars;
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public StringBuilder benchmarkEncodeIntoStringBuilder() {
+        builder.setLength(0);
+        B58UUID.encode(TEST_UUID.getMostSignificantBits(), TEST_UUID.getLeastSignificantBits(), builder);
+        return builder;
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public int benchmarkTryDecodeInvalid() {
+        return B58UUID.tryDecode(INVALID_STRING, bits, 0);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public B58UUIDException benchmarkDecodeInvalid() {
+        try {
+            B58UUID.decode(INVALID_STRING);
+            return null;
+        } catch (B58UUIDException e) {
+            return e;
+        }
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public B58UUIDException benchmarkDecodeInvalidEagerMessage() {
+        // Baseline: the same failure built as before lazy messages, formatting on construction
+        int status = B58UUID.tryDecode(INVALID_STRING, bits, 0);
+        int position = B58UUID.errorPosition(status);
+        return new B58UUIDException(B58UUID.errorType(status), 
+            String.format("Invalid character at position %d: %c", position, INVALID_STRING.charAt(position)));
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + B58UUIDException.LIGHTWEIGHT_PROPERTY + "=true")
+    public B58UUIDException benchmarkDecodeInvalidLightweight() {
+        try {
+            B58UUID.decode(INVALID_STRING);
+            return null;
+        } catch (B58UUIDException e) {
+            return e;
+        }
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public int benchmarkCompareEncoded() {
+        return B58UUID.compareEncoded(TEST_STRING, INVALID_STRING);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public int benchmarkShardOf() throws B58UUIDException {
+        return B58UUID.shardOf(TEST_STRING, 1024);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public int benchmarkIdParseHash() throws B58UUIDException {
+        return B58Id.parse(TEST_STRING).hashCode();
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public int benchmarkStringHash() {
+        // Baseline: String.hashCode over a fresh copy, as a map keyed by ids would pay
+        return new String(TEST_STRING.toCharArray()).hashCode();
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public boolean benchmarkEqualsUuid() {
+        return B58UUID.equalsUUID(TEST_STRING, TEST_UUID);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public byte[] benchmarkEncodeAll() {
+        B58UUID.encodeAll(batchMsb, batchLsb, 0, BATCH_SIZE, batchAscii, 0);
+        return batchAscii;
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] benchmarkDecodeAll() throws B58UUIDException {
+        B58UUID.decodeAll(batchAscii, 0, batchMsb, batchLsb, 0, BATCH_SIZE);
+        return batchMsb;
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int benchmarkValidateAll() {
+        return B58UUID.validateAll(batchAscii, 0, BATCH_SIZE);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int benchmarkColumnsValidate() {
+        return B58UUIDColumns.validate(batchAscii, 0, BATCH_SIZE);
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public byte[] benchmarkColumnsEncode() {
+        B58UUIDColumns.encode(batchMsb, batchLsb, 0, BATCH_SIZE, batchAscii, 0);
+        return batchAscii;
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] benchmarkColumnsDecode() throws B58UUIDException {
+        B58UUIDColumns.decode(batchAscii, 0, batchMsb, batchLsb, 0, BATCH_SIZE);
+        return batchMsb;
+    }
+    
+    @Setup
+    public void setUpBatch() {
+        Random random = new Random(42);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batchMsb[i] = random.nextLong();
+            batchLsb[i] = random.nextLong();
+        }
+        B58UUID.encodeAll(batchMsb, batchLsb, 0, BATCH_SIZE, batchAscii, 0);
+    }
+    
     @org.openjdk.jmh.annotations.Benchmark
     public String benchmarkGenerate() {
         return B58UUID.generate();
     }
     
+    @org.openjdk.jmh.annotations.Benchmark
+    public String benchmarkGenerateV7() {
+        return B58UUID.generateV7();
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public String benchmarkGenerateInsecure() {
+        return insecure.generate();
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public byte[] benchmarkGenerateInsecureBulk() {
+        insecure.generate(BATCH_SIZE, batchAscii, 0);
+        return batchAscii;
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    public String benchmarkGeneratePooled(PoolState state) {
+        return state.pool.generate();
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public byte[] benchmarkGenerateBulk() {
+        B58UUID.generate(BATCH_SIZE, batchAscii, 0);
+        return batchAscii;
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @Threads(Threads.MAX)
+    public String benchmarkGenerateContended() {
+        return B58UUID.generate();
+    }
+    
     @org.openjdk.jmh.annotations.Benchmark
     public String benchmarkEncodeUuid() throws B58UUIDException {
         return B58UUID.encodeUUID("550e8400-e29b-41d4-a716-446655440000");
@@ -49,6 +249,31 @@ public class B58UUIDBenchmarkTest {
         return B58UUID.decodeToUUID(TEST_STRING);
     }
     
+    @org.openjdk.jmh.annotations.Benchmark
+    public int benchmarkDecodeToUuidBuffer() throws B58UUIDException {
+        return B58UUID.decodeToUUID(TEST_STRING, hexChars, 0);
+    }
+    
+    /**
+     * Pool for {@link #benchmarkGeneratePooled}, kept in its own state so that its
+     * refill thread only runs while that benchmark does.
+     */
+    @State(Scope.Benchmark)
+    public static class PoolState {
+        
+        B58UUIDPool pool;
+        
+        @Setup
+        public void setUp() {
+            pool = new B58UUIDPool(4096, 16384);
+        }
+        
+        @TearDown
+        public void tearDown() {
+            pool.close();
+        }
+    }
+    
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(B58UUIDBenchmarkTest.class.getSimpleName())
@@ -60,6 +285,74 @@ public class B58UUIDBenchmarkTest {
         new Runner(opt).run();
     }
     
+    // Reference implementations of the original byte-array codec, kept so the
+    // current engine can be measured against them.
+    
+    private static final String LEGACY_ALPHABET = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+    
+    private static String legacyEncode(byte[] data) {
+        byte[] num = data.clone();
+        StringBuilder result = new StringBuilder();
+        while (!legacyIsAllZero(num)) {
+            int remainder = 0;
+            for (int i = 0; i < num.length; i++) {
+                int value = (remainder << 8) + (num[i] & 0xFF);
+                num[i] = (byte) (value / 58);
+                remainder = value % 58;
+            }
+            result.append(LEGACY_ALPHABET.charAt(remainder));
+        }
+        result.reverse();
+        while (result.length() < 22) {
+            result.insert(0, '1');
+        }
+        return result.toString();
+    }
+    
+    private static byte[] legacyDecode(String b58) {
+        byte[] result = new byte[16];
+        for (int i = 0; i < b58.length(); i++) {
+            int digit = LEGACY_ALPHABET.indexOf(b58.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Invalid character at position " + i);
+            }
+            if ((result[0] & 0xFF) > 4 || legacyCarry(result, 58, 0) > 0) {
+                throw new IllegalArgumentException("Overflow");
+            }
+            int carry = 0;
+            for (int j = result.length - 1; j >= 0; j--) {
+                int value = (result[j] & 0xFF) * 58 + carry;
+                result[j] = (byte) (value & 0xFF);
+                carry = value >> 8;
+            }
+            if (legacyCarry(result, 1, digit) > 0) {
+                throw new IllegalArgumentException("Overflow");
+            }
+            carry = digit;
+            for (int j = result.length - 1; j >= 0 && carry > 0; j--) {
+                int sum = (result[j] & 0xFF) + carry;
+                result[j] = (byte) (sum & 0xFF);
+                carry = sum >> 8;
+            }
+        }
+        return result;
+    }
+    
+    private static int legacyCarry(byte[] data, int factor, int addend) {
+        int carry = addend;
+        for (int i = data.length - 1; i >= 0; i--) {
+            carry = ((data[i] & 0xFF) * factor + carry) >> 8;
+        }
+        return carry;
+    }
+    
+    private static boolean legacyIsAllZero(byte[] data) {
+        for (byte b : data) {
+            if (b != 0) return false;
+        }
+        return true;
+    }
+    
     private static byte[] hexToBytes(String hex) {
         hex = hex.replace("-", "");
         byte[] result = new byte[16];
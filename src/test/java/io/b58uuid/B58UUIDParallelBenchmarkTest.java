@@ -0,0 +1,98 @@
+package io.b58uuid;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark measuring how parallel bulk encode, decode and generate scale with the
+ * number of cores. Each run uses a dedicated {@link ForkJoinPool} with {@code cores}
+ * workers; a value of 0 runs the sequential {@code encodeAll}/{@code decodeAll}/
+ * {@code generate(int)} as the baseline.
+ * 
+ * Run with: mvn test-compile exec:java -Dexec.mainClass="io.b58uuid.B58UUIDParallelBenchmarkTest" -Dexec.classpathScope=test
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class B58UUIDParallelBenchmarkTest {
+    
+    private static final int ROWS = 1 << 20;
+    
+    @Param({"0", "1", "2", "4", "8", "16"})
+    public int cores;
+    
+    private final long[] msb = new long[ROWS];
+    private final long[] lsb = new long[ROWS];
+    private final byte[] ascii = new byte[ROWS * 22];
+    private ForkJoinPool pool;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < ROWS; i++) {
+            msb[i] = random.nextLong();
+            lsb[i] = random.nextLong();
+        }
+        B58UUID.encodeAll(msb, lsb, 0, ROWS, ascii, 0);
+        if (cores > 0) {
+            pool = new ForkJoinPool(cores);
+        }
+    }
+    
+    @TearDown
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(ROWS)
+    public byte[] benchmarkParallelEncodeAll() {
+        if (pool == null) {
+            B58UUID.encodeAll(msb, lsb, 0, ROWS, ascii, 0);
+        } else {
+            B58UUID.parallelEncodeAll(msb, lsb, 0, ROWS, ascii, 0, pool);
+        }
+        return ascii;
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long[] benchmarkParallelDecodeAll() throws B58UUIDException {
+        if (pool == null) {
+            B58UUID.decodeAll(ascii, 0, msb, lsb, 0, ROWS);
+        } else {
+            B58UUID.parallelDecodeAll(ascii, 0, msb, lsb, 0, ROWS, pool);
+        }
+        return msb;
+    }
+    
+    @org.openjdk.jmh.annotations.Benchmark
+    @OperationsPerInvocation(ROWS)
+    public String[] benchmarkParallelGenerate() {
+        // Draws on the striped SecureRandom from every worker at once
+        if (pool == null) {
+            return B58UUID.generate(ROWS);
+        }
+        return B58UUID.parallelGenerate(ROWS, pool);
+    }
+    
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(B58UUIDParallelBenchmarkTest.class.getSimpleName())
+                .build();
+        
+        new Runner(opt).run();
+    }
+}
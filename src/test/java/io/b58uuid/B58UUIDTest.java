@@ -9,7 +9,24 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.EmptySource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
@@ -17,6 +34,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -105,6 +123,50 @@ public class B58UUIDTest {
         assertEquals(expected, result);
     }
     
+    @Test
+    @DisplayName("UUID string forms - encodeUUID")
+    void testUuidStringForms() throws B58UUIDException {
+        String expected = "BWBeN28Vb7cMEx7Ym8AUzs";
+        assertEquals(expected, B58UUID.encodeUUID("550e8400e29b41d4a716446655440000"));
+        assertEquals(expected, B58UUID.encodeUUID("550E8400-E29B-41D4-A716-446655440000"));
+        assertEquals(expected, B58UUID.encodeUUID("{550e8400-e29b-41d4-a716-446655440000}"));
+        assertEquals(expected, B58UUID.encodeUUID("urn:uuid:550e8400-e29b-41d4-a716-446655440000"));
+        assertEquals(expected, B58UUID.encodeUUID("URN:UUID:550e8400-e29b-41d4-a716-446655440000"));
+        assertEquals(expected, B58UUID.encodeUUID("550e-8400e29b41d4a716-4466554400-00"));
+        assertEquals("YcVfxkQb6JRzqk5kF2tNLv", B58UUID.encodeUUID("ffffffff-ffff-ffff-ffff-ffffffffffff"));
+        
+        // equalsHex accepts exactly the forms encodeUUID accepts
+        String[] forms = {"{550e8400-e29b-41d4-a716-446655440000}", "urn:uuid:550e8400-e29b-41d4-a716-446655440000",
+            "Urn:Uuid:550E8400E29B41D4A716446655440000----", "{550e8400e29b41d4a716446655440000}",
+            "{550e8400-e29b-41d4-a716-446655440000", "550e8400-e29b-41d4-a716-446655440000}",
+            "urn:550e8400-e29b-41d4-a716-446655440000", "urn:uuid:{550e8400-e29b-41d4-a716-446655440000}",
+            "uuid:urn:550e8400-e29b-41d4-a716-446655440000"};
+        for (String form : forms) {
+            boolean accepted = B58UUID.isValid(encodeOrNull(form));
+            assertEquals(accepted, B58UUID.equalsHex(expected, form), form);
+            assertEquals(accepted, B58UUID.equalsHex(expected, new StringBuilder(form)), form);
+        }
+        assertTrue(B58UUID.equalsHex(expected, "{550e8400-e29b-41d4-a716-446655440000}"));
+        assertTrue(B58UUID.equalsHex(expected, "URN:UUID:550e8400-e29b-41d4-a716-446655440000"));
+        
+        // Positions count hex characters only, as if the hyphens had been removed
+        B58UUIDException exception = assertThrows(B58UUIDException.class,
+            () -> B58UUID.encodeUUID("550e8400-e29b-41d4-a716-44665544000g"));
+        assertEquals(B58UUIDException.ErrorType.INVALID_UUID, exception.getErrorType());
+        assertEquals("Invalid hex character at position 31: g", exception.getMessage());
+        exception = assertThrows(B58UUIDException.class,
+            () -> B58UUID.encodeUUID("550e8400-e29b-41d4-a716-4466554400000"));
+        assertEquals(B58UUIDException.ErrorType.INVALID_LENGTH, exception.getErrorType());
+        assertEquals("Invalid UUID length: expected 32 hex characters, got 33", exception.getMessage());
+        exception = assertThrows(B58UUIDException.class,
+            () -> B58UUID.encodeUUID("{550e8400-e29b-41d4-a716-44665544000}"));
+        assertEquals(B58UUIDException.ErrorType.INVALID_LENGTH, exception.getErrorType());
+        exception = assertThrows(B58UUIDException.class,
+            () -> B58UUID.encodeUUID("550e8400-e29b-41d4-a716-4466554400\u00e9"));
+        assertEquals(B58UUIDException.ErrorType.INVALID_LENGTH, exception.getErrorType());
+        assertThrows(B58UUIDException.class, () -> B58UUID.encodeUUID("550e8400-e29b-41d4-a716-4466554400\u00e90"));
+    }
+    
     @Test
     @DisplayName("UUID string decoding")
     void testUuidStringDecoding() throws B58UUIDException {
@@ -115,6 +177,36 @@ public class B58UUIDTest {
         assertEquals(expected, result);
     }
     
+    @Test
+    @DisplayName("UUID string decoding into buffers")
+    void testUuidStringDecodingTargets() throws Exception {
+        String b58Str = "BWBeN28Vb7cMEx7Ym8AUzs";
+        String expected = "550e8400-e29b-41d4-a716-446655440000";
+        
+        char[] chars = new char[40];
+        assertEquals(38, B58UUID.decodeToUUID(b58Str, chars, 2));
+        assertEquals(expected, new String(chars, 2, 36));
+        byte[] ascii = new byte[36];
+        assertEquals(36, B58UUID.decodeToUUID(b58Str, ascii, 0));
+        assertEquals(expected, new String(ascii, StandardCharsets.US_ASCII));
+        StringBuilder builder = new StringBuilder("id=");
+        B58UUID.decodeToUUID(b58Str, builder);
+        assertEquals("id=" + expected, builder.toString());
+        StringWriter writer = new StringWriter();
+        B58UUID.decodeToUUID(b58Str, writer);
+        assertEquals(expected, writer.toString());
+        
+        Random random = new Random(21);
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            assertEquals(uuid.toString(), B58UUID.decodeToUUID(B58UUID.encode(uuid)));
+        }
+        
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.decodeToUUID(b58Str, new char[36], 1));
+        assertThrows(B58UUIDException.class, () -> B58UUID.decodeToUUID("BWBeN28Vb7cMEx0Ym8AUzs", builder));
+        assertEquals("id=" + expected, builder.toString());
+    }
+    
     @Test
     @DisplayName("UUID string round-trip")
     void testUuidStringRoundTrip() throws B58UUIDException {
@@ -163,7 +255,7 @@ public class B58UUIDTest {
     @DisplayName("Null input handling - encode")
     void testNullInputEncode() {
         B58UUIDException exception = assertThrows(B58UUIDException.class, () -> {
-            B58UUID.encode(null);
+            B58UUID.encode((byte[]) null);
         });
         
         assertEquals(B58UUIDException.ErrorType.INVALID_UUID, exception.getErrorType());
@@ -294,6 +386,43 @@ public class B58UUIDTest {
             String.format("Result should contain expected value %s", expectedResult));
     }
     
+    @Test
+    @DisplayName("Thread safety - concurrent generation")
+    void testThreadSafetyConcurrentGeneration() throws InterruptedException {
+        final int threadCount = 16;
+        final int iterationsPerThread = 2000;
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        ConcurrentHashMap<String, Integer> results = new ConcurrentHashMap<>();
+        AtomicInteger errorCount = new AtomicInteger(0);
+        
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < iterationsPerThread; j++) {
+                        String generated = B58UUID.generate();
+                        UUID uuid = B58UUID.decodeToJavaUUID(generated);
+                        if (uuid.version() != 4 || uuid.variant() != 2) {
+                            errorCount.incrementAndGet();
+                        }
+                        results.merge(generated, 1, Integer::sum);
+                    }
+                } catch (Exception e) {
+                    errorCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        
+        assertEquals(0, errorCount.get(), "All generated UUIDs should be valid version 4");
+        assertEquals(threadCount * iterationsPerThread, results.size(), "Generated UUIDs should be unique");
+    }
+    
     @Test
     @DisplayName("Thread safety - concurrent decoding")
     void testThreadSafetyConcurrentDecoding() throws InterruptedException {
@@ -520,8 +649,1014 @@ public class B58UUIDTest {
         }
     }
     
+    @Test
+    @DisplayName("Encode matches arbitrary-precision reference")
+    void testEncodeMatchesReference() throws B58UUIDException {
+        Random random = new Random(58);
+        byte[] data = new byte[16];
+        for (int i = 0; i < 10000; i++) {
+            random.nextBytes(data);
+            assertEquals(referenceEncode(data), B58UUID.encode(data),
+                String.format("Encoding mismatch for %s", bytesToHex(data)));
+        }
+    }
+    
+    @Test
+    @DisplayName("Decode matches arbitrary-precision reference")
+    void testDecodeMatchesReference() throws B58UUIDException {
+        Random random = new Random(85);
+        byte[] data = new byte[16];
+        for (int i = 0; i < 10000; i++) {
+            random.nextBytes(data);
+            String encoded = referenceEncode(data);
+            assertArrayEquals(data, B58UUID.decode(encoded),
+                String.format("Decoding mismatch for %s", encoded));
+        }
+    }
+    
+    @Test
+    @DisplayName("Decode to most/least significant bits")
+    void testDecodeBits() throws B58UUIDException {
+        long[] bits = new long[3];
+        for (int i = 0; i < TEST_VECTORS.length; i++) {
+            B58UUID.decodeBits(TEST_VECTORS[i][1], bits, 1);
+            UUID expected = UUID.fromString(TEST_VECTORS[i][0].replaceFirst(
+                "(\\p{XDigit}{8})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}{4})(\\p{XDigit}+)", "$1-$2-$3-$4-$5"));
+            assertEquals(expected.getMostSignificantBits(), bits[1]);
+            assertEquals(expected.getLeastSignificantBits(), bits[2]);
+        }
+        assertEquals(0L, bits[0]);
+    }
+    
+    @Test
+    @DisplayName("java.util.UUID encoding and decoding")
+    void testJavaUuidRoundTrip() throws B58UUIDException {
+        UUID uuid = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        
+        assertEquals("BWBeN28Vb7cMEx7Ym8AUzs", B58UUID.encode(uuid));
+        assertEquals("BWBeN28Vb7cMEx7Ym8AUzs", 
+            B58UUID.encode(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+        assertEquals(uuid, B58UUID.decodeToJavaUUID("BWBeN28Vb7cMEx7Ym8AUzs"));
+        
+        for (int i = 0; i < 100; i++) {
+            UUID random = UUID.randomUUID();
+            assertEquals(random, B58UUID.decodeToJavaUUID(B58UUID.encode(random)));
+            assertEquals(B58UUID.encodeUUID(random.toString()), B58UUID.encode(random));
+        }
+    }
+    
+    @Test
+    @DisplayName("Null UUID - encode")
+    void testNullJavaUuidEncode() {
+        B58UUIDException exception = assertThrows(B58UUIDException.class, () -> {
+            B58UUID.encode((UUID) null);
+        });
+        
+        assertEquals(B58UUIDException.ErrorType.INVALID_UUID, exception.getErrorType());
+    }
+    
+    @Test
+    @DisplayName("Encode into char and byte arrays at an offset")
+    void testEncodeIntoArrays() {
+        UUID uuid = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        
+        char[] chars = new char[30];
+        assertEquals(26, B58UUID.encode(msb, lsb, chars, 4));
+        assertEquals("BWBeN28Vb7cMEx7Ym8AUzs", new String(chars, 4, 22));
+        assertEquals('\0', chars[3]);
+        assertEquals('\0', chars[26]);
+        
+        byte[] bytes = new byte[22];
+        assertEquals(22, B58UUID.encode(msb, lsb, bytes, 0));
+        assertEquals("BWBeN28Vb7cMEx7Ym8AUzs", new String(bytes, StandardCharsets.US_ASCII));
+        
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.encode(msb, lsb, new char[21], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.encode(msb, lsb, new byte[30], 9));
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.encode(msb, lsb, new byte[30], -1));
+    }
+    
+    @Test
+    @DisplayName("Encode into buffers, builders and streams")
+    void testEncodeIntoBuffersAndStreams() throws IOException {
+        UUID uuid = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        String expected = "BWBeN28Vb7cMEx7Ym8AUzs";
+        
+        for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(24), ByteBuffer.allocateDirect(24)}) {
+            buffer.position(1);
+            assertEquals(23, B58UUID.encode(msb, lsb, buffer));
+            buffer.flip().position(1);
+            assertEquals(expected, StandardCharsets.US_ASCII.decode(buffer).toString());
+            buffer.clear().position(3);
+            assertThrows(BufferOverflowException.class, () -> B58UUID.encode(msb, lsb, buffer));
+        }
+        
+        CharBuffer charBuffer = CharBuffer.allocate(22);
+        assertEquals(22, B58UUID.encode(msb, lsb, charBuffer));
+        assertEquals(expected, new String(charBuffer.array()));
+        
+        StringBuilder builder = new StringBuilder("id=");
+        assertEquals(25, B58UUID.encode(msb, lsb, builder));
+        assertEquals("id=" + expected, builder.toString());
+        
+        StringWriter writer = new StringWriter();
+        B58UUID.encode(msb, lsb, (Appendable) writer);
+        assertEquals(expected, writer.toString());
+        
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        B58UUID.encode(msb, lsb, stream);
+        assertEquals(expected, new String(stream.toByteArray(), StandardCharsets.US_ASCII));
+        
+        // Targets without an accessible array take the absolute-put and in-order append paths
+        Random random = new Random(4);
+        for (int i = 0; i < 1000; i++) {
+            long hi = i < 3 ? new long[] {0L, -1L, Long.MIN_VALUE}[i] : random.nextLong();
+            long lo = i < 3 ? new long[] {0L, -1L, 1L}[i] : random.nextLong();
+            String b58 = B58UUID.encode(hi, lo);
+            
+            ByteBuffer direct = ByteBuffer.allocateDirect(25);
+            direct.position(3);
+            assertEquals(25, B58UUID.encode(hi, lo, direct));
+            direct.position(3);
+            assertEquals(b58, StandardCharsets.US_ASCII.decode(direct).toString());
+            
+            CharBuffer view = ByteBuffer.allocateDirect(50).asCharBuffer();
+            view.position(3);
+            assertEquals(25, B58UUID.encode(hi, lo, view));
+            view.position(3);
+            assertEquals(b58, view.toString());
+            
+            StringWriter out = new StringWriter();
+            B58UUID.encode(hi, lo, (Appendable) out);
+            assertEquals(b58, out.toString());
+        }
+    }
+    
+    @Test
+    @DisplayName("Decode from character ranges, ASCII slices and buffers")
+    void testDecodeFromRanges() throws B58UUIDException {
+        UUID expected = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        String line = "GET /items/BWBeN28Vb7cMEx7Ym8AUzs HTTP/1.1";
+        byte[] ascii = line.getBytes(StandardCharsets.US_ASCII);
+        long[] bits = new long[2];
+        
+        assertEquals(expected, B58UUID.decodeToJavaUUID(line, 11));
+        assertEquals(expected, B58UUID.decodeToJavaUUID(new StringBuilder(line), 11));
+        assertEquals(expected, B58UUID.decodeToJavaUUID(ascii, 11));
+        
+        B58UUID.decodeBits(line, 11, bits, 0);
+        assertEquals(expected, new UUID(bits[0], bits[1]));
+        
+        Arrays.fill(bits, 0);
+        B58UUID.decodeBits(ascii, 11, bits, 0);
+        assertEquals(expected, new UUID(bits[0], bits[1]));
+        
+        ByteBuffer direct = ByteBuffer.allocateDirect(ascii.length);
+        direct.put(ascii).flip();
+        for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.wrap(ascii, 3, 30).slice(), direct}) {
+            int position = buffer == direct ? 11 : 8;
+            Arrays.fill(bits, 0);
+            B58UUID.decodeBits(buffer, position, bits, 0);
+            assertEquals(expected, new UUID(bits[0], bits[1]));
+            assertEquals(0, buffer.position());
+        }
+    }
+    
+    @Test
+    @DisplayName("Range decoding errors")
+    void testDecodeFromRangesErrors() {
+        String text = "id=BWBeN28Vb7cMEx7Ym8AU";
+        B58UUIDException tooShort = assertThrows(B58UUIDException.class, () -> {
+            B58UUID.decodeToJavaUUID(text, 3);
+        });
+        assertEquals(B58UUIDException.ErrorType.INVALID_BASE58, tooShort.getErrorType());
+        
+        B58UUIDException invalid = assertThrows(B58UUIDException.class, () -> {
+            B58UUID.decodeToJavaUUID("id=BWBeN28Vb7cMEx0Ym8AUzs".getBytes(StandardCharsets.US_ASCII), 3);
+        });
+        assertEquals(B58UUIDException.ErrorType.INVALID_BASE58, invalid.getErrorType());
+        assertTrue(invalid.getMessage().contains("position 14"));
+        
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.decodeToJavaUUID(text, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.decodeToJavaUUID(text, 40));
+    }
+    
+    @Test
+    @DisplayName("Validation without exceptions")
+    void testIsValid() {
+        for (String[] vector : TEST_VECTORS) {
+            assertTrue(B58UUID.isValid(vector[1]), vector[1]);
+        }
+        assertFalse(B58UUID.isValid(null));
+        assertFalse(B58UUID.isValid(""));
+        assertFalse(B58UUID.isValid("111111111111111111111"));
+        assertFalse(B58UUID.isValid("111111111111111111111O"));
+        assertFalse(B58UUID.isValid("YcVfxkQb6JRzqk5kF2tNLw"));
+        assertFalse(B58UUID.isValid("11111111111\u0100111111111"));
+        assertFalse(B58UUID.isValid("11111111111\u2460111111111"));
+    }
+    
+    @Test
+    @DisplayName("Word-at-a-time validation of ASCII ids")
+    void testIsValidAscii() {
+        // Every byte value at every position must agree with the per-character check
+        String[] bases = {"BWBeN28Vb7cMEx7Ym8AUzs", "YcVfxkQb6JRzqk5kF2tNLv", "1111111111111111111111", "zzzzzzzzzzzzzzzzzzzzzz"};
+        byte[] padded = new byte[30];
+        for (String base : bases) {
+            for (int position = 0; position < 22; position++) {
+                for (int value = 0; value < 256; value++) {
+                    byte[] ascii = base.getBytes(StandardCharsets.ISO_8859_1);
+                    ascii[position] = (byte) value;
+                    System.arraycopy(ascii, 0, padded, 5, 22);
+                    boolean expected = B58UUID.isValid(new String(ascii, StandardCharsets.ISO_8859_1));
+                    assertEquals(expected, B58UUID.isValid(padded, 5), base + " " + position + " " + value);
+                }
+            }
+        }
+        
+        // Strings sharing a prefix with the largest value exercise the bound on each word
+        Random random = new Random(24);
+        String max = "YcVfxkQb6JRzqk5kF2tNLv";
+        String alphabet = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+        for (int i = 0; i < 10_000; i++) {
+            char[] chars = new char[22];
+            int prefix = random.nextInt(23);
+            for (int j = 0; j < 22; j++) {
+                chars[j] = j < prefix ? max.charAt(j) : alphabet.charAt(random.nextInt(58));
+            }
+            String b58 = new String(chars);
+            assertEquals(B58UUID.isValid(b58), B58UUID.isValid(b58.getBytes(StandardCharsets.US_ASCII), 0), b58);
+        }
+        
+        assertFalse(B58UUID.isValid(null, 0));
+        assertFalse(B58UUID.isValid(new byte[21], 0));
+        assertFalse(B58UUID.isValid(new byte[22], -1));
+        
+        int rows = 1000;
+        long[] msb = new long[rows];
+        long[] lsb = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            msb[i] = random.nextLong();
+            lsb[i] = random.nextLong();
+        }
+        byte[] ascii = new byte[22 * rows];
+        B58UUID.encodeAll(msb, lsb, 0, rows, ascii, 0);
+        assertEquals(-1, B58UUID.validateAll(ascii, 0, rows));
+        ascii[22 * 777 + 13] = '0';
+        assertEquals(777, B58UUID.validateAll(ascii, 0, rows));
+        assertEquals(-1, B58UUID.validateAll(ascii, 22 * 778, rows - 778));
+        assertEquals(-1, B58UUID.validateAll(ascii, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.validateAll(ascii, 1, rows));
+        assertThrows(IllegalArgumentException.class, () -> B58UUID.validateAll(ascii, 0, -1));
+    }
+    
+    @Test
+    @DisplayName("Column codec matches the scalar bulk methods")
+    void testColumns() throws B58UUIDException {
+        // Set by the multi-release test runs to whether the vector layer should load
+        String vectorized = System.getProperty("b58uuid.test.vectorized");
+        if (vectorized != null) {
+            assertEquals(Boolean.parseBoolean(vectorized), B58UUIDColumns.isVectorized());
+        }
+        
+        Random random = new Random(25);
+        // Row counts around the block size and odd offsets leave partial vectors at both ends
+        for (int rows : new int[] {0, 1, 3, 255, 256, 257, 1000}) {
+            long[] msb = new long[rows + 2];
+            long[] lsb = new long[rows + 2];
+            for (int i = 0; i < msb.length; i++) {
+                msb[i] = i % 7 == 0 ? -1L : random.nextLong();
+                lsb[i] = i % 7 == 0 ? -1L : random.nextLong();
+            }
+            byte[] expected = new byte[3 + 22 * rows];
+            byte[] actual = new byte[3 + 22 * rows];
+            assertEquals(B58UUID.encodeAll(msb, lsb, 1, rows + 1, expected, 3),
+                B58UUIDColumns.encode(msb, lsb, 1, rows + 1, actual, 3));
+            assertArrayEquals(expected, actual);
+            
+            long[] msbOut = new long[rows + 2];
+            long[] lsbOut = new long[rows + 2];
+            assertEquals(3 + 22 * rows, B58UUIDColumns.decode(actual, 3, msbOut, lsbOut, 1, rows + 1));
+            for (int i = 1; i <= rows; i++) {
+                assertEquals(msb[i], msbOut[i]);
+                assertEquals(lsb[i], lsbOut[i]);
+            }
+            assertEquals(-1, B58UUIDColumns.validate(actual, 3, rows));
+        }
+        
+        // Bad characters and values above 2^128 - 1 are reported like the scalar methods report them
+        int rows = 600;
+        long[] msb = new long[rows];
+        long[] lsb = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            msb[i] = random.nextLong();
+            lsb[i] = random.nextLong();
+        }
+        byte[] clean = new byte[22 * rows];
+        B58UUIDColumns.encode(msb, lsb, 0, rows, clean, 0);
+        byte[][] corruptions = {"0".getBytes(StandardCharsets.US_ASCII), {(byte) 0xE9},
+            "YcVfxkQb6JRzqk5kF2tNLw".getBytes(StandardCharsets.US_ASCII)};
+        for (byte[] corruption : corruptions) {
+            for (int row : new int[] {0, 299, 599}) {
+                byte[] ascii = clean.clone();
+                System.arraycopy(corruption, 0, ascii, 22 * row + 22 - corruption.length, corruption.length);
+                assertEquals(row, B58UUIDColumns.validate(ascii, 0, rows));
+                assertEquals(B58UUID.validateAll(ascii, 0, rows), B58UUIDColumns.validate(ascii, 0, rows));
+                
+                B58UUIDException expected = assertThrows(B58UUIDException.class,
+                    () -> B58UUID.decodeAll(ascii, 0, new long[rows], new long[rows], 0, rows));
+                long[] msbOut = new long[rows];
+                long[] lsbOut = new long[rows];
+                B58UUIDException actual = assertThrows(B58UUIDException.class,
+                    () -> B58UUIDColumns.decode(ascii, 0, msbOut, lsbOut, 0, rows));
+                assertEquals(expected.getErrorType(), actual.getErrorType());
+                assertEquals(expected.getMessage(), actual.getMessage());
+                // Rows before the bad one are decoded, as with decodeAll
+                for (int i = 0; i < row; i++) {
+                    assertEquals(msb[i], msbOut[i]);
+                    assertEquals(lsb[i], lsbOut[i]);
+                }
+            }
+        }
+        
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUIDColumns.encode(msb, lsb, 0, rows, new byte[22], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUIDColumns.decode(clean, 1, msb, lsb, 0, rows));
+        assertThrows(IllegalArgumentException.class, () -> B58UUIDColumns.validate(clean, 0, -1));
+    }
+    
+    @Test
+    @DisplayName("tryDecode status codes")
+    void testTryDecode() {
+        long[] bits = new long[2];
+        
+        assertEquals(B58UUID.OK, B58UUID.tryDecode("BWBeN28Vb7cMEx7Ym8AUzs", bits, 0));
+        assertEquals(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"), new UUID(bits[0], bits[1]));
+        assertNull(B58UUID.errorType(B58UUID.OK));
+        assertEquals(-1, B58UUID.errorPosition(B58UUID.OK));
+        
+        int status = B58UUID.tryDecode("1111111111111111111111111", bits, 0);
+        assertEquals(B58UUIDException.ErrorType.INVALID_BASE58, B58UUID.errorType(status));
+        assertEquals(-1, B58UUID.errorPosition(status));
+        
+        status = B58UUID.tryDecode(null, bits, 0);
+        assertEquals(B58UUIDException.ErrorType.INVALID_BASE58, B58UUID.errorType(status));
+        
+        status = B58UUID.tryDecode("11111l1111111111111111", bits, 0);
+        assertEquals(B58UUIDException.ErrorType.INVALID_BASE58, B58UUID.errorType(status));
+        assertEquals(5, B58UUID.errorPosition(status));
+        
+        status = B58UUID.tryDecode("1111111111111111111\uFFFF11", bits, 0);
+        assertEquals(B58UUIDException.ErrorType.INVALID_BASE58, B58UUID.errorType(status));
+        assertEquals(19, B58UUID.errorPosition(status));
+        
+        status = B58UUID.tryDecode("ZZZZZZZZZZZZZZZZZZZZZZ", bits, 0);
+        assertEquals(B58UUIDException.ErrorType.OVERFLOW, B58UUID.errorType(status));
+        assertEquals(-1, B58UUID.errorPosition(status));
+        
+        assertEquals(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"), new UUID(bits[0], bits[1]),
+            "Failed decodes should leave the destination untouched");
+    }
+    
+    @Test
+    @DisplayName("Non-Latin-1 characters - decode")
+    void testNonLatin1CharacterDecode() {
+        B58UUIDException exception = assertThrows(B58UUIDException.class, () -> {
+            B58UUID.decode("1111111111\u4e2d11111111111");
+        });
+        
+        assertEquals(B58UUIDException.ErrorType.INVALID_BASE58, exception.getErrorType());
+        assertTrue(exception.getMessage().contains("position 10"));
+    }
+    
+    @Test
+    @DisplayName("Lazily formatted exception messages")
+    void testLazyExceptionMessages() {
+        B58UUIDException exception = assertThrows(B58UUIDException.class, () -> {
+            B58UUID.decode("BWBeN28Vb7cMEx0Ym8AUzs");
+        });
+        
+        assertEquals(B58UUIDException.ErrorType.INVALID_BASE58, exception.getErrorType());
+        assertEquals("Invalid character at position 14: 0", exception.getDetails());
+        assertEquals(exception.getDetails(), exception.getMessage());
+        assertEquals("B58UUIDException[INVALID_BASE58]: Invalid character at position 14: 0", exception.toString());
+        assertTrue(exception.getStackTrace().length > 0, "Stack traces are kept by default");
+        
+        // The cause is left unset, as with the public constructors
+        IllegalStateException cause = new IllegalStateException("wrapped");
+        assertSame(exception, exception.initCause(cause));
+        assertSame(cause, exception.getCause());
+    }
+    
+    @Test
+    @DisplayName("Lightweight exception mode skips stack traces")
+    void testLightweightExceptions() throws Exception {
+        URL classes = B58UUID.class.getProtectionDomain().getCodeSource().getLocation();
+        String previous = System.setProperty(B58UUIDException.LIGHTWEIGHT_PROPERTY, "true");
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes}, null)) {
+            Class<?> codec = loader.loadClass(B58UUID.class.getName());
+            InvocationTargetException thrown = assertThrows(InvocationTargetException.class, () -> {
+                codec.getMethod("decode", String.class).invoke(null, "111111111111111111111O");
+            });
+            
+            Throwable exception = thrown.getCause();
+            assertEquals(B58UUIDException.class.getName(), exception.getClass().getName());
+            assertEquals(0, exception.getStackTrace().length);
+            assertEquals("Invalid character at position 21: O", exception.getMessage());
+            assertThrows(IllegalStateException.class, () -> exception.initCause(new IllegalStateException()));
+            
+            // Batch row failures are stackless too, and wrap the failure of the row
+            byte[] ascii = "BWBeN28Vb7cMEx0Ym8AUzs".getBytes(StandardCharsets.US_ASCII);
+            thrown = assertThrows(InvocationTargetException.class, () -> {
+                codec.getMethod("decodeAll", byte[].class, int.class, long[].class, long[].class, int.class, int.class)
+                    .invoke(null, ascii, 0, new long[1], new long[1], 0, 1);
+            });
+            Throwable rowFailure = thrown.getCause();
+            assertEquals(0, rowFailure.getStackTrace().length);
+            assertEquals("Invalid id at row 0: Invalid character at position 14: 0", rowFailure.getMessage());
+            assertEquals(0, rowFailure.getCause().getStackTrace().length);
+            assertEquals("INVALID_BASE58", 
+                exception.getClass().getMethod("getErrorType").invoke(exception).toString());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(B58UUIDException.LIGHTWEIGHT_PROPERTY);
+            } else {
+                System.setProperty(B58UUIDException.LIGHTWEIGHT_PROPERTY, previous);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Random algorithm and reseed interval are configurable")
+    void testConfigurableRandomSource() throws Exception {
+        URL classes = B58UUID.class.getProtectionDomain().getCodeSource().getLocation();
+        String previousAlgorithm = System.setProperty(B58UUID.RANDOM_ALGORITHM_PROPERTY, "SHA1PRNG");
+        String previousReseed = System.setProperty(B58UUID.RANDOM_RESEED_PROPERTY, "64");
+        try {
+            try (URLClassLoader loader = new URLClassLoader(new URL[] {classes}, null)) {
+                Class<?> codec = loader.loadClass(B58UUID.class.getName());
+                String[] ids = (String[]) codec.getMethod("generate", int.class).invoke(null, 200);
+                assertEquals(200, new HashSet<>(Arrays.asList(ids)).size());
+                for (String b58 : ids) {
+                    assertEquals(4, B58UUID.decodeToJavaUUID(b58).version());
+                }
+            }
+            
+            System.setProperty(B58UUID.RANDOM_ALGORITHM_PROPERTY, "NoSuchAlgorithm");
+            try (URLClassLoader loader = new URLClassLoader(new URL[] {classes}, null)) {
+                Class<?> codec = loader.loadClass(B58UUID.class.getName());
+                assertEquals(B58UUID.encode(UUID.fromString("550e8400-e29b-41d4-a716-446655440000")), 
+                    codec.getMethod("encode", long.class, long.class)
+                        .invoke(null, 0x550e8400e29b41d4L, 0xa716446655440000L));
+                InvocationTargetException thrown = assertThrows(InvocationTargetException.class, () -> {
+                    codec.getMethod("generate").invoke(null);
+                });
+                assertEquals(IllegalStateException.class, thrown.getCause().getClass());
+            }
+        } finally {
+            restoreProperty(B58UUID.RANDOM_ALGORITHM_PROPERTY, previousAlgorithm);
+            restoreProperty(B58UUID.RANDOM_RESEED_PROPERTY, previousReseed);
+        }
+    }
+    
+    @Test
+    @DisplayName("Encoded order matches unsigned 128-bit order")
+    void testCompareEncoded() {
+        Random random = new Random(17);
+        for (int i = 0; i < 10_000; i++) {
+            long msbA = random.nextLong();
+            long msbB = i % 2 == 0 ? msbA : random.nextLong();
+            long lsbA = random.nextLong();
+            long lsbB = random.nextLong();
+            int expected = msbA != msbB ? Long.compareUnsigned(msbA, msbB) : Long.compareUnsigned(lsbA, lsbB);
+            int actual = B58UUID.compareEncoded(B58UUID.encode(msbA, lsbA), B58UUID.encode(msbB, lsbB));
+            assertEquals(Integer.signum(expected), Integer.signum(actual));
+        }
+        
+        String[] sorted = {"YcVfxkQb6JRzqk5kF2tNLv", "1111111111111111111111", "BWBeN28Vb7cMEx7Ym8AUzs"};
+        Arrays.sort(sorted, B58UUID.ENCODED_ORDER);
+        assertArrayEquals(new String[] {"1111111111111111111111", "BWBeN28Vb7cMEx7Ym8AUzs", "YcVfxkQb6JRzqk5kF2tNLv"}, 
+            sorted);
+        assertEquals(0, B58UUID.compareEncoded("BWBeN28Vb7cMEx7Ym8AUzs", new StringBuilder("BWBeN28Vb7cMEx7Ym8AUzs")));
+    }
+    
+    @Test
+    @DisplayName("Equality against UUIDs and hex strings without decoding")
+    void testEqualsUuidAndHex() {
+        UUID uuid = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        assertTrue(B58UUID.equalsUUID("BWBeN28Vb7cMEx7Ym8AUzs", uuid));
+        assertFalse(B58UUID.equalsUUID("BWBeN28Vb7cMEx7Ym8AUzt", uuid));
+        assertFalse(B58UUID.equalsUUID("BWBeN28Vb7cMEx0Ym8AUzs", uuid));
+        assertFalse(B58UUID.equalsUUID(null, uuid));
+        assertFalse(B58UUID.equalsUUID("BWBeN28Vb7cMEx7Ym8AUzs", null));
+        
+        assertTrue(B58UUID.equalsHex("BWBeN28Vb7cMEx7Ym8AUzs", "550e8400-e29b-41d4-a716-446655440000"));
+        assertTrue(B58UUID.equalsHex("BWBeN28Vb7cMEx7Ym8AUzs", "550E8400E29B41D4A716446655440000"));
+        assertFalse(B58UUID.equalsHex("BWBeN28Vb7cMEx7Ym8AUzs", "550e8400-e29b-41d4-a716-446655440001"));
+        assertFalse(B58UUID.equalsHex("BWBeN28Vb7cMEx7Ym8AUzs", "550e8400-e29b-41d4-a716-44665544000"));
+        assertFalse(B58UUID.equalsHex("BWBeN28Vb7cMEx7Ym8AUzs", "550e8400-e29b-41d4-a716-4466554400000"));
+        assertFalse(B58UUID.equalsHex("BWBeN28Vb7cMEx7Ym8AUzs", "550e8400-e29b-41d4-a716-44665544000g"));
+        assertFalse(B58UUID.equalsHex("YcVfxkQb6JRzqk5kF2tNLw", "ffffffffffffffffffffffffffffffff"));
+        assertTrue(B58UUID.equalsHex("YcVfxkQb6JRzqk5kF2tNLv", "ffffffffffffffffffffffffffffffff"));
+    }
+    
+    @Test
+    @DisplayName("Routing hash, shards and partition bits")
+    void testRouting() throws B58UUIDException {
+        // Pinned values: the hash and shard assignment must never change
+        assertEquals(0xa4db413564890f37L, B58UUID.hash64("BWBeN28Vb7cMEx7Ym8AUzs"));
+        assertEquals(0x3b8d08f7c738fb7aL, B58UUID.hash64("YcVfxkQb6JRzqk5kF2tNLv"));
+        assertEquals(0L, B58UUID.hash64("1111111111111111111111"));
+        assertEquals(353, B58UUID.shardOf("BWBeN28Vb7cMEx7Ym8AUzs", 1000));
+        assertEquals(7, B58UUID.shardOf("YcVfxkQb6JRzqk5kF2tNLv", 10));
+        assertEquals(0x550L, B58UUID.partitionBits("BWBeN28Vb7cMEx7Ym8AUzs", 12));
+        assertEquals(0x550e8400e29b41d4L, B58UUID.partitionBits("BWBeN28Vb7cMEx7Ym8AUzs", 64));
+        assertEquals(0L, B58UUID.partitionBits("BWBeN28Vb7cMEx7Ym8AUzs", 0));
+        
+        Random random = new Random(3);
+        int[] counts = new int[8];
+        for (int i = 0; i < 10_000; i++) {
+            long msb = random.nextLong();
+            long lsb = random.nextLong();
+            String b58 = B58UUID.encode(msb, lsb);
+            assertEquals(B58UUID.hash64(msb, lsb), B58UUID.hash64(b58));
+            int shard = B58UUID.shardOf(b58, 8);
+            assertEquals(shard, B58UUID.shardOf(msb, lsb, 8));
+            counts[shard]++;
+            // Growing the cluster only moves ids to the new shard
+            int grown = B58UUID.shardOf(b58, 9);
+            assertTrue(grown == shard || grown == 8);
+        }
+        for (int count : counts) {
+            assertTrue(count > 1000 && count < 1500);
+        }
+        
+        assertThrows(IllegalArgumentException.class, () -> B58UUID.shardOf("BWBeN28Vb7cMEx7Ym8AUzs", 0));
+        assertThrows(IllegalArgumentException.class, () -> B58UUID.partitionBits("BWBeN28Vb7cMEx7Ym8AUzs", 65));
+        assertThrows(B58UUIDException.class, () -> B58UUID.shardOf("BWBeN28Vb7cMEx0Ym8AUzs", 4));
+    }
+    
+    @Test
+    @DisplayName("Platform primitives agree with reference arithmetic")
+    void testPlatformPrimitives() {
+        // Set by the multi-release test runs to the variant the JAR should select
+        String release = System.getProperty("b58uuid.test.platformRelease");
+        if (release != null) {
+            assertEquals(Integer.parseInt(release), Platform.release());
+        }
+        
+        long[] edges = {0L, 1L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0xFFFFFFFFL, 0x100000000L, 0x2D30D1F1F4D2AFE9L};
+        Random random = new Random(23);
+        long[] values = new long[edges.length + 200];
+        System.arraycopy(edges, 0, values, 0, edges.length);
+        for (int i = edges.length; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+        for (long x : values) {
+            for (long y : edges) {
+                BigInteger product = new BigInteger(Long.toUnsignedString(x)).multiply(new BigInteger(Long.toUnsignedString(y)));
+                assertEquals(product.shiftRight(64).longValue(), Platform.unsignedMultiplyHigh(x, y));
+                assertEquals(Platform.unsignedMultiplyHigh(x, y), Platform.unsignedMultiplyHigh(y, x));
+            }
+        }
+        
+        byte[] data = new byte[24];
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        for (long value : values) {
+            int offset = (int) (value & 7) + 3;
+            Platform.writeLong(data, offset, value);
+            assertEquals(value, buffer.getLong(offset));
+            assertEquals(value, Platform.readLong(data, offset));
+        }
+        
+        assertEquals(Thread.currentThread().getId(), Platform.currentThreadId());
+    }
+    
+    @Test
+    @DisplayName("B58Id value type")
+    void testValueType() throws Exception {
+        String b58 = "BWBeN28Vb7cMEx7Ym8AUzs";
+        UUID uuid = UUID.fromString("550e8400-e29b-41d4-a716-446655440000");
+        B58Id id = B58Id.parse(b58);
+        assertSame(b58, id.toString());
+        assertEquals(uuid, id.toUUID());
+        assertEquals(id, B58Id.of(uuid));
+        assertEquals(id, B58Id.of(B58UUID.decode(b58)));
+        assertArrayEquals(B58UUID.decode(b58), id.toBytes());
+        assertEquals(id.hashCode(), B58Id.of(uuid).hashCode());
+        assertNotEquals(b58, id);
+        
+        // Encoded lazily, then memoized
+        B58Id built = B58Id.of(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+        assertEquals(22, built.length());
+        assertEquals('B', built.charAt(0));
+        assertEquals("AUzs", built.subSequence(18, 22).toString());
+        assertSame(built.toString(), built.toString());
+        assertTrue(B58UUID.equalsUUID(built, uuid));
+        
+        // Ordering matches the Base58 strings
+        Random random = new Random(19);
+        B58Id[] ids = new B58Id[1000];
+        String[] strings = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = B58Id.of(random.nextLong(), random.nextLong());
+            strings[i] = ids[i].toString();
+        }
+        Arrays.sort(ids);
+        Arrays.sort(strings);
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(strings[i], ids[i].toString());
+        }
+        
+        // Serialized through a proxy of the two longs, which rebuilds the hash
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(id);
+        }
+        B58Id copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (B58Id) in.readObject();
+        }
+        assertEquals(id, copy);
+        assertEquals(id.hashCode(), copy.hashCode());
+        assertEquals(b58, copy.toString());
+        assertFalse(new String(bytes.toByteArray(), StandardCharsets.ISO_8859_1).contains(b58));
+        
+        assertThrows(B58UUIDException.class, () -> B58Id.parse("BWBeN28Vb7cMEx0Ym8AUzs"));
+        assertThrows(B58UUIDException.class, () -> B58Id.of(new byte[15]));
+        assertThrows(B58UUIDException.class, () -> B58Id.of((UUID) null));
+    }
+    
+    @Test
+    @DisplayName("Batch encode/decode over bit columns")
+    void testBatchColumns() throws B58UUIDException {
+        Random random = new Random(2024);
+        int rows = 1000;
+        long[] msb = new long[rows];
+        long[] lsb = new long[rows];
+        for (int i = 0; i < rows; i++) {
+            msb[i] = random.nextLong();
+            lsb[i] = random.nextLong();
+        }
+        msb[0] = 0;
+        lsb[0] = 0;
+        msb[1] = -1;
+        lsb[1] = -1;
+        
+        byte[] out = new byte[3 + rows * 22];
+        assertEquals(out.length, B58UUID.encodeAll(msb, lsb, 0, rows, out, 3));
+        for (int i = 0; i < rows; i++) {
+            assertEquals(B58UUID.encode(msb[i], lsb[i]), 
+                new String(out, 3 + i * 22, 22, StandardCharsets.US_ASCII));
+        }
+        
+        long[] decodedMsb = new long[rows];
+        long[] decodedLsb = new long[rows];
+        assertEquals(out.length, B58UUID.decodeAll(out, 3, decodedMsb, decodedLsb, 0, rows));
+        assertArrayEquals(msb, decodedMsb);
+        assertArrayEquals(lsb, decodedLsb);
+    }
+    
+    @Test
+    @DisplayName("Batch decode errors name the row")
+    void testBatchDecodeErrors() {
+        byte[] ascii = ("BWBeN28Vb7cMEx7Ym8AUzs" + "BWBeN28Vb7cMEx7Ym8AUzs" + "BWBeN28Vb7cMEx0Ym8AUzs")
+            .getBytes(StandardCharsets.US_ASCII);
+        long[] msb = new long[3];
+        long[] lsb = new long[3];
+        
+        B58UUIDException exception = assertThrows(B58UUIDException.class, () -> {
+            B58UUID.decodeAll(ascii, 0, msb, lsb, 0, 3);
+        });
+        assertEquals(B58UUIDException.ErrorType.INVALID_BASE58, exception.getErrorType());
+        assertEquals("Invalid id at row 2: Invalid character at position 14: 0", exception.getMessage());
+        assertEquals("Invalid character at position 14: 0", exception.getCause().getMessage());
+        assertNotEquals(0L, msb[1]);
+        
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.decodeAll(ascii, 1, msb, lsb, 0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.encodeAll(msb, lsb, 0, 3, new byte[65], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.encodeAll(msb, lsb, 2, 4, new byte[66], 0));
+    }
+    
+    @Test
+    @DisplayName("Bulk generation into bit pairs, ASCII buffers and strings")
+    void testBulkGenerate() throws B58UUIDException {
+        int n = 1000;
+        long[] bits = new long[1 + 2 * n];
+        B58UUID.generate(n, bits, 1);
+        HashSet<UUID> uuids = new HashSet<>();
+        for (int i = 1; i < bits.length; i += 2) {
+            UUID uuid = new UUID(bits[i], bits[i + 1]);
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+            uuids.add(uuid);
+        }
+        assertEquals(n, uuids.size());
+        
+        byte[] ascii = new byte[2 + 22 * n];
+        assertEquals(ascii.length, B58UUID.generate(n, ascii, 2));
+        long[] msb = new long[n];
+        long[] lsb = new long[n];
+        B58UUID.decodeAll(ascii, 2, msb, lsb, 0, n);
+        for (int i = 0; i < n; i++) {
+            assertEquals(4, new UUID(msb[i], lsb[i]).version());
+        }
+        
+        String[] strings = B58UUID.generate(n);
+        assertEquals(n, new HashSet<>(Arrays.asList(strings)).size());
+        for (String b58 : strings) {
+            assertEquals(2, B58UUID.decodeToJavaUUID(b58).variant());
+        }
+        assertEquals(3, B58UUID.generateList(3).size());
+        assertEquals(0, B58UUID.generate(0).length);
+        
+        assertThrows(IllegalArgumentException.class, () -> B58UUID.generate(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.generate(2, new long[4], 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> B58UUID.generate(2, new byte[43], 0));
+    }
+    
+    @Test
+    @DisplayName("Insecure generator is reproducible and produces version 4 ids")
+    void testInsecureGenerator() throws B58UUIDException {
+        String[] first = new B58UUIDInsecureGenerator(42).generate(1000);
+        String[] second = new B58UUIDInsecureGenerator(42).generate(1000);
+        assertArrayEquals(first, second);
+        assertEquals(1000, new HashSet<>(Arrays.asList(first)).size());
+        for (String b58 : first) {
+            UUID uuid = B58UUID.decodeToJavaUUID(b58);
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+        }
+        
+        B58UUIDInsecureGenerator generator = new B58UUIDInsecureGenerator(42);
+        long[] bits = new long[2000];
+        generator.generate(1000, bits, 0);
+        assertEquals(first[999], B58UUID.encode(bits[1998], bits[1999]));
+        
+        generator = new B58UUIDInsecureGenerator(42);
+        byte[] ascii = new byte[22 * 1000];
+        assertEquals(ascii.length, generator.generate(1000, ascii, 0));
+        assertEquals(first[1], new String(ascii, 22, 22, StandardCharsets.US_ASCII));
+        
+        B58UUIDInsecureGenerator split = new B58UUIDInsecureGenerator(42).split();
+        assertEquals(new B58UUIDInsecureGenerator(42).split().generate(), split.generate());
+        assertNotEquals(first[0], split.generate());
+        
+        assertThrows(IllegalArgumentException.class, () -> new B58UUIDInsecureGenerator().generate(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> new B58UUIDInsecureGenerator().generate(2, new byte[43], 0));
+    }
+    
+    @Test
+    @DisplayName("Version 7 ids are time-ordered and sort as strings")
+    void testVersion7Generator() throws B58UUIDException {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        B58UUIDv7Generator generator = new B58UUIDv7Generator(clock::get);
+        
+        String previous = generator.generate();
+        UUID first = B58UUID.decodeToJavaUUID(previous);
+        assertEquals(7, first.version());
+        assertEquals(2, first.variant());
+        assertEquals(1_700_000_000_000L, first.getMostSignificantBits() >>> 16);
+        
+        for (int i = 0; i < 100_000; i++) {
+            if (i % 1000 == 0) {
+                clock.addAndGet(i % 3000 == 0 ? -5 : 1);
+            }
+            String next = generator.generate();
+            assertTrue(next.compareTo(previous) > 0, "Ids must increase, also across clock regressions");
+            previous = next;
+        }
+        UUID last = B58UUID.decodeToJavaUUID(previous);
+        assertEquals(7, last.version());
+        assertTrue((last.getMostSignificantBits() >>> 16) >= clock.get());
+        
+        String[] block = generator.generate(1000);
+        assertTrue(block[0].compareTo(previous) > 0);
+        long[] bits = new long[2];
+        generator.generate(1, bits, 0);
+        String after = B58UUID.encode(bits[0], bits[1]);
+        for (int i = 1; i < block.length; i++) {
+            assertTrue(block[i].compareTo(block[i - 1]) > 0);
+        }
+        assertTrue(after.compareTo(block[block.length - 1]) > 0);
+        
+        byte[] ascii = new byte[22 * 10];
+        assertEquals(ascii.length, generator.generate(10, ascii, 0));
+        assertTrue(new String(ascii, 0, 22, StandardCharsets.US_ASCII).compareTo(after) > 0);
+        
+        assertEquals(7, B58UUID.decodeToJavaUUID(B58UUID.generateV7()).version());
+        assertTrue(B58UUID.generateV7().compareTo(B58UUID.generateV7()) < 0);
+        assertThrows(IllegalArgumentException.class, () -> new B58UUIDv7Generator(null));
+    }
+    
+    @Test
+    @DisplayName("Version 7 timestamps and time-range bounds from Base58 strings")
+    void testVersion7TimestampsAndBounds() throws B58UUIDException {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        B58UUIDv7Generator generator = new B58UUIDv7Generator(clock::get);
+        String before = generator.generate();
+        clock.incrementAndGet();
+        String[] during = generator.generate(100);
+        clock.incrementAndGet();
+        String after = generator.generate();
+        
+        assertEquals(1_700_000_000_000L, B58UUID.timestampMillis(before));
+        assertEquals(1_700_000_000_001L, B58UUID.timestampMillis(during[99]));
+        
+        Instant instant = Instant.ofEpochMilli(1_700_000_000_001L);
+        String lower = B58UUID.lowerBound(instant);
+        String upper = B58UUID.upperBound(instant.plusNanos(999_999));
+        assertEquals(22, lower.length());
+        assertEquals(1_700_000_000_001L, B58UUID.timestampMillis(lower));
+        assertEquals(1_700_000_000_001L, B58UUID.timestampMillis(upper));
+        assertTrue(before.compareTo(lower) < 0);
+        assertTrue(after.compareTo(upper) > 0);
+        for (String b58 : during) {
+            assertTrue(b58.compareTo(lower) >= 0 && b58.compareTo(upper) <= 0);
+        }
+        
+        B58UUIDException exception = assertThrows(B58UUIDException.class, () -> {
+            B58UUID.timestampMillis("BWBeN28Vb7cMEx7Ym8AUzs");
+        });
+        assertEquals(B58UUIDException.ErrorType.INVALID_UUID, exception.getErrorType());
+        assertThrows(B58UUIDException.class, () -> B58UUID.timestampMillis("BWBeN28Vb7cMEx0Ym8AUzs"));
+        assertThrows(IllegalArgumentException.class, () -> B58UUID.lowerBound(Instant.ofEpochMilli(-1)));
+        assertThrows(IllegalArgumentException.class, () -> B58UUID.upperBound(Instant.ofEpochMilli(1L << 48)));
+    }
+    
+    @Test
+    @DisplayName("Pooled generator serves ready ids and falls back when empty")
+    void testPooledGenerator() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> new B58UUIDPool(8, 8));
+        assertThrows(IllegalArgumentException.class, () -> new B58UUIDPool(-1, 8));
+        
+        B58UUIDPool pool = new B58UUIDPool(16, 64);
+        assertEquals(16, pool.getLowWatermark());
+        assertEquals(64, pool.getHighWatermark());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (pool.size() < 64 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(64, pool.size());
+        pool.close();
+        
+        HashSet<String> ids = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            String b58 = pool.generate();
+            UUID uuid = B58UUID.decodeToJavaUUID(b58);
+            assertEquals(4, uuid.version());
+            assertEquals(2, uuid.variant());
+            ids.add(b58);
+        }
+        assertEquals(100, ids.size());
+        assertEquals(64, pool.hits());
+        assertEquals(36, pool.misses());
+        assertEquals(0, pool.size());
+        
+        long[] bits = new long[3];
+        pool.generate(bits, 1);
+        assertEquals(4, new UUID(bits[1], bits[2]).version());
+        
+        // A single-slot pool keeps serving hits, refilling each time it runs empty
+        try (B58UUIDPool single = new B58UUIDPool(0, 1)) {
+            for (int i = 1; i <= 3; i++) {
+                deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (single.size() < 1 && System.nanoTime() < deadline) {
+                    Thread.sleep(1);
+                }
+                assertEquals(1, single.size());
+                assertEquals(4, B58UUID.decodeToJavaUUID(single.generate()).version());
+                assertEquals(i, single.hits());
+            }
+            assertEquals(0, single.misses());
+        }
+    }
+    
+    @Test
+    @DisplayName("Parallel bulk codec matches the sequential one")
+    void testParallelBulkCodec() throws B58UUIDException {
+        Random random = new Random(7);
+        int rows = 100_003;
+        long[] msb = new long[rows];
+        long[] lsb = new long[rows];
+        UUID[] uuids = new UUID[rows];
+        for (int i = 0; i < rows; i++) {
+            msb[i] = random.nextLong();
+            lsb[i] = random.nextLong();
+            uuids[i] = new UUID(msb[i], lsb[i]);
+        }
+        
+        byte[] expected = new byte[rows * 22];
+        B58UUID.encodeAll(msb, lsb, 0, rows, expected, 0);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            byte[] out = new byte[rows * 22];
+            assertEquals(out.length, B58UUID.parallelEncodeAll(msb, lsb, 0, rows, out, 0));
+            assertArrayEquals(expected, out);
+            
+            Arrays.fill(out, (byte) 0);
+            B58UUID.parallelEncodeAll(msb, lsb, 0, rows, out, 0, executor);
+            assertArrayEquals(expected, out);
+            
+            long[] decodedMsb = new long[rows];
+            long[] decodedLsb = new long[rows];
+            assertEquals(out.length, B58UUID.parallelDecodeAll(out, 0, decodedMsb, decodedLsb, 0, rows, executor));
+            assertArrayEquals(msb, decodedMsb);
+            assertArrayEquals(lsb, decodedLsb);
+            
+            String[] strings = B58UUID.parallelEncode(uuids, executor);
+            for (int i = 0; i < rows; i += 997) {
+                assertEquals(B58UUID.encode(uuids[i]), strings[i]);
+            }
+            assertArrayEquals(uuids, B58UUID.parallelDecode(strings));
+            assertArrayEquals(uuids, B58UUID.parallelDecode(strings, executor));
+            
+            String[] generated = B58UUID.parallelGenerate(rows, executor);
+            assertEquals(rows, new HashSet<>(Arrays.asList(generated)).size());
+            assertEquals(4, B58UUID.decodeToJavaUUID(generated[rows - 1]).version());
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("Parallel bulk decode reports the lowest invalid row")
+    void testParallelBulkErrors() {
+        int rows = 50_000;
+        String[] strings = new String[rows];
+        Arrays.fill(strings, "BWBeN28Vb7cMEx7Ym8AUzs");
+        strings[45_000] = "BWBeN28Vb7cMEx0Ym8AUzs";
+        strings[30_001] = "YcVfxkQb6JRzqk5kF2tNLw";
+        strings[20_000] = null;
+        
+        B58UUIDException exception = assertThrows(B58UUIDException.class, () -> B58UUID.parallelDecode(strings));
+        assertEquals("Invalid id at row 20000: Empty Base58 string", exception.getMessage());
+        
+        strings[20_000] = "BWBeN28Vb7cMEx7Ym8AUzs";
+        byte[] ascii = String.join("", strings).getBytes(StandardCharsets.US_ASCII);
+        exception = assertThrows(B58UUIDException.class, () -> {
+            B58UUID.parallelDecodeAll(ascii, 0, new long[rows], new long[rows], 0, rows);
+        });
+        assertEquals(B58UUIDException.ErrorType.OVERFLOW, exception.getErrorType());
+        assertTrue(exception.getMessage().startsWith("Invalid id at row 30001: "));
+        
+        UUID[] uuids = new UUID[rows];
+        Arrays.fill(uuids, UUID.randomUUID());
+        uuids[40_000] = null;
+        exception = assertThrows(B58UUIDException.class, () -> B58UUID.parallelEncode(uuids));
+        assertEquals(B58UUIDException.ErrorType.INVALID_UUID, exception.getErrorType());
+        
+        assertThrows(IllegalArgumentException.class, () -> B58UUID.parallelGenerate(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> {
+            B58UUID.parallelEncodeAll(new long[2], new long[2], 0, 2, new byte[43], 0);
+        });
+    }
+    
+    @Test
+    @DisplayName("Overflow detection - one past maximum")
+    void testOverflowOnePastMaximum() {
+        // "YcVfxkQb6JRzqk5kF2tNLv" is 2^128 - 1; the next string is 2^128
+        B58UUIDException exception = assertThrows(B58UUIDException.class, () -> {
+            B58UUID.decode("YcVfxkQb6JRzqk5kF2tNLw");
+        });
+        
+        assertEquals(B58UUIDException.ErrorType.OVERFLOW, exception.getErrorType());
+    }
+    
     // Helper methods
     
+    private static void restoreProperty(String key, String previous) {
+        if (previous == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, previous);
+        }
+    }
+    
+    private static String encodeOrNull(String uuid) {
+        try {
+            return B58UUID.encodeUUID(uuid);
+        } catch (B58UUIDException e) {
+            return null;
+        }
+    }
+    
+    private static String referenceEncode(byte[] data) {
+        final String alphabet = "123456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnopqrstuvwxyz";
+        BigInteger value = new BigInteger(1, data);
+        BigInteger base = BigInteger.valueOf(58);
+        char[] result = new char[22];
+        for (int i = 21; i >= 0; i--) {
+            BigInteger[] qr = value.divideAndRemainder(base);
+            result[i] = alphabet.charAt(qr[1].intValue());
+            value = qr[0];
+        }
+        return new String(result);
+    }
+    
     private static byte[] hexToBytes(String hex) {
         hex = hex.replace("-", "");
         byte[] result = new byte[16];